@@ -0,0 +1,29 @@
+package com.prgrms.amabnb.common.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConstraintViolations {
+
+    // dialects report the constraint name with extra text around it (H2 appends the referenced columns)
+    public static boolean isViolationOf(DataIntegrityViolationException exception, String constraintName) {
+        Throwable cause = exception;
+        while (cause != null) {
+            if (cause instanceof ConstraintViolationException violation
+                && contains(violation.getConstraintName(), constraintName)) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return contains(exception.getMostSpecificCause().getMessage(), constraintName);
+    }
+
+    private static boolean contains(String text, String constraintName) {
+        return text != null && text.toLowerCase().contains(constraintName.toLowerCase());
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.prgrms.amabnb.common.idempotency;
+
+import org.springframework.http.HttpStatus;
+
+import com.prgrms.amabnb.common.exception.BusinessException;
+
+public class IdempotencyKeyInvalidException extends BusinessException {
+
+    public IdempotencyKeyInvalidException(int maxKeyLength) {
+        super(HttpStatus.BAD_REQUEST, "멱등키는 " + maxKeyLength + "자까지만 보낼 수 있습니다.");
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.prgrms.amabnb.common.idempotency;
+
+import org.springframework.http.HttpStatus;
+
+import com.prgrms.amabnb.common.exception.BusinessException;
+
+public class IdempotencyKeyReusedException extends BusinessException {
+
+    private static final String MESSAGE = "같은 멱등키로 다른 요청을 보낼 수 없습니다.";
+
+    public IdempotencyKeyReusedException() {
+        super(HttpStatus.UNPROCESSABLE_ENTITY, MESSAGE);
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.prgrms.amabnb.common.idempotency;
+
+import org.springframework.http.HttpStatus;
+
+import com.prgrms.amabnb.common.exception.BusinessException;
+
+public class IdempotencyRequestInProgressException extends BusinessException {
+
+    private static final String MESSAGE = "같은 요청이 아직 처리 중입니다.";
+
+    public IdempotencyRequestInProgressException() {
+        super(HttpStatus.CONFLICT, MESSAGE);
+    }
+
+}
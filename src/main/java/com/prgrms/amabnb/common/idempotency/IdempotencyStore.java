@@ -0,0 +1,147 @@
+package com.prgrms.amabnb.common.idempotency;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Component
+public class IdempotencyStore {
+
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final long waitTimeoutMillis;
+    private final int maxKeyLength;
+    private final Map<IdempotencyKey, Entry> entries = new LinkedHashMap<>();
+
+    public IdempotencyStore(
+        ObjectMapper objectMapper,
+        @Value("${idempotency.ttl:PT24H}") Duration ttl,
+        @Value("${idempotency.max-entries:100000}") int maxEntries,
+        @Value("${idempotency.wait-timeout:PT10S}") Duration waitTimeout,
+        @Value("${idempotency.max-key-length:255}") int maxKeyLength
+    ) {
+        this.objectMapper = objectMapper;
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+        this.waitTimeoutMillis = waitTimeout.toMillis();
+        this.maxKeyLength = maxKeyLength;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Long userId, String key, Object request, Supplier<T> action) {
+        if (key.length() > maxKeyLength) {
+            throw new IdempotencyKeyInvalidException(maxKeyLength);
+        }
+        IdempotencyKey idempotencyKey = new IdempotencyKey(userId, key);
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = register(idempotencyKey, fingerprint(request), created);
+        if (existing != null) {
+            return (T)await(existing);
+        }
+
+        try {
+            T result = action.get();
+            created.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // errors must complete the future too, or duplicates wait on it until the entry expires
+            remove(idempotencyKey, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private synchronized CompletableFuture<Object> register(
+        IdempotencyKey key,
+        String fingerprint,
+        CompletableFuture<Object> future
+    ) {
+        long now = System.currentTimeMillis();
+        evict(now);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (!entry.fingerprint().equals(fingerprint)) {
+                throw new IdempotencyKeyReusedException();
+            }
+            return entry.future();
+        }
+        entries.put(key, new Entry(future, fingerprint, now + ttlMillis));
+        return null;
+    }
+
+    private synchronized void remove(IdempotencyKey key, CompletableFuture<Object> future) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.future() == future) {
+            entries.remove(key);
+        }
+    }
+
+    // requests still running are kept, so a duplicate cannot start a second execution
+    private void evict(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.expiresAt() > now && entries.size() < maxEntries) {
+                return;
+            }
+            if (entry.future().isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 본문의 해시를 만들 수 없습니다.", e);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyRequestInProgressException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyRequestInProgressException();
+        }
+    }
+
+    private record IdempotencyKey(Long userId, String key) {
+    }
+
+    private record Entry(CompletableFuture<Object> future, String fingerprint, long expiresAt) {
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.prgrms.amabnb.common.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class IndexLoadBuffer {
+
+    private List<Runnable> pending;
+
+    public synchronized void startLoading() {
+        pending = new ArrayList<>();
+    }
+
+    // updates committed while the loader is reading are replayed after it, so a stale chunk never wins
+    public synchronized void apply(Runnable update) {
+        if (pending != null) {
+            pending.add(update);
+            return;
+        }
+        update.run();
+    }
+
+    public synchronized void finishLoading(Runnable markReady) {
+        if (pending != null) {
+            pending.forEach(Runnable::run);
+            pending = null;
+        }
+        markReady.run();
+    }
+
+}
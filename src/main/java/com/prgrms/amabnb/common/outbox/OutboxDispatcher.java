@@ -0,0 +1,133 @@
+package com.prgrms.amabnb.common.outbox;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration lease;
+    private final Duration retention;
+
+    public OutboxDispatcher(
+        OutboxEventRepository outboxEventRepository,
+        ApplicationEventPublisher eventPublisher,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager,
+        @Value("${outbox.dispatch.batch-size:100}") int batchSize,
+        @Value("${outbox.dispatch.max-attempts:10}") int maxAttempts,
+        @Value("${outbox.dispatch.backoff:PT10S}") Duration backoff,
+        @Value("${outbox.dispatch.lease:PT1M}") Duration lease,
+        @Value("${outbox.retention:P7D}") Duration retention
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.lease = lease;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatch.fixed-delay:1000}")
+    public void dispatchPendingEvents() {
+        dispatch(LocalDateTime.now());
+    }
+
+    @Scheduled(cron = "${outbox.purge.cron:0 0 5 * * *}")
+    public void purgePublishedEvents() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        Integer deleted = transactionTemplate.execute(status ->
+            outboxEventRepository.deletePublishedBefore(OutboxStatus.PUBLISHED, before));
+        log.info("[OUTBOX] purged {} published events before {}", deleted, before);
+    }
+
+    public int dispatch(LocalDateTime now) {
+        int published = 0;
+        while (true) {
+            Claim claim = transactionTemplate.execute(status -> claim(now));
+            if (claim == null || claim.candidates() == 0) {
+                break;
+            }
+            published += deliver(claim, now);
+            if (claim.candidates() < batchSize) {
+                break;
+            }
+        }
+        return published;
+    }
+
+    // the conditional UPDATE pushes next_attempt_at to the end of the lease, so a row is claimed by exactly one
+    // dispatcher and comes back only if that dispatcher dies before marking it
+    private Claim claim(LocalDateTime now) {
+        List<Long> candidateIds = outboxEventRepository.findDispatchableIds(OutboxStatus.PENDING, now,
+            PageRequest.ofSize(batchSize));
+        if (candidateIds.isEmpty()) {
+            return new Claim(0, null, List.of());
+        }
+        String token = UUID.randomUUID().toString();
+        outboxEventRepository.claim(candidateIds, token, OutboxStatus.PENDING, now, now.plus(lease));
+        return new Claim(candidateIds.size(), token, outboxEventRepository.findByClaimTokenOrderById(token));
+    }
+
+    private int deliver(Claim claim, LocalDateTime now) {
+        List<Long> publishedIds = new ArrayList<>();
+        List<OutboxEvent> failed = new ArrayList<>();
+        for (OutboxEvent event : claim.events()) {
+            try {
+                eventPublisher.publishEvent(deserialize(event));
+                publishedIds.add(event.getId());
+            } catch (RuntimeException | IOException e) {
+                log.warn("[OUTBOX] failed to deliver event {} ({}), attempt {}",
+                    event.getId(), event.getEventType(), event.getAttempts() + 1, e);
+                event.fail(now, maxAttempts, backoff);
+                failed.add(event);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!publishedIds.isEmpty()) {
+                outboxEventRepository.markPublished(publishedIds, claim.token(), OutboxStatus.PENDING,
+                    OutboxStatus.PUBLISHED, now);
+            }
+            failed.forEach(event -> outboxEventRepository.markFailed(event.getId(), claim.token(),
+                event.getStatus(), event.getAttempts(), event.getNextAttemptAt()));
+        });
+        return publishedIds.size();
+    }
+
+    private Object deserialize(OutboxEvent event) throws IOException {
+        Class<?> type = OutboxEventTypes.find(event.getEventType())
+            .orElseThrow(() -> new IllegalStateException("허용되지 않은 이벤트 타입입니다. " + event.getEventType()));
+        return objectMapper.readValue(event.getPayload(), type);
+    }
+
+    private record Claim(int candidates, String token, List<OutboxEvent> events) {
+    }
+
+}
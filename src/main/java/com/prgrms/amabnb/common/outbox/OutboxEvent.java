@@ -0,0 +1,76 @@
+package com.prgrms.amabnb.common.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+
+import com.prgrms.amabnb.common.model.BaseEntity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    @Index(name = "idx_outbox_event_status_next_attempt", columnList = "status, next_attempt_at, id"),
+    @Index(name = "idx_outbox_event_claim_token", columnList = "claim_token")
+})
+public class OutboxEvent extends BaseEntity {
+
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OutboxStatus status;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime publishedAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    public OutboxEvent(String eventType, String payload, LocalDateTime now) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.nextAttemptAt = now;
+    }
+
+    public void fail(LocalDateTime now, int maxAttempts, Duration backoff) {
+        attempts++;
+        if (attempts >= maxAttempts) {
+            status = OutboxStatus.FAILED;
+            return;
+        }
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        nextAttemptAt = now.plus(delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay);
+    }
+
+}
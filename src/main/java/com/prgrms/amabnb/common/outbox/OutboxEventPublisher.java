@@ -0,0 +1,34 @@
+package com.prgrms.amabnb.common.outbox;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Object event) {
+        outboxEventRepository.save(new OutboxEvent(OutboxEventTypes.nameOf(event), serialize(event), LocalDateTime.now()));
+    }
+
+    private String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트를 직렬화할 수 없습니다. " + event.getClass().getName(), e);
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.prgrms.amabnb.common.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("SELECT e.id FROM OutboxEvent e "
+        + "WHERE e.status = :status AND e.nextAttemptAt <= :now "
+        + "ORDER BY e.nextAttemptAt, e.id")
+    List<Long> findDispatchableIds(
+        @Param("status") OutboxStatus status,
+        @Param("now") LocalDateTime now,
+        Pageable pageable
+    );
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimToken = :token, e.nextAttemptAt = :leaseUntil "
+        + "WHERE e.id IN :ids AND e.status = :status AND e.nextAttemptAt <= :now")
+    int claim(
+        @Param("ids") Collection<Long> ids,
+        @Param("token") String token,
+        @Param("status") OutboxStatus status,
+        @Param("now") LocalDateTime now,
+        @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    List<OutboxEvent> findByClaimTokenOrderById(String claimToken);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :published, e.publishedAt = :now "
+        + "WHERE e.id IN :ids AND e.claimToken = :token AND e.status = :pending")
+    int markPublished(
+        @Param("ids") Collection<Long> ids,
+        @Param("token") String token,
+        @Param("pending") OutboxStatus pending,
+        @Param("published") OutboxStatus published,
+        @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt "
+        + "WHERE e.id = :id AND e.claimToken = :token")
+    int markFailed(
+        @Param("id") Long id,
+        @Param("token") String token,
+        @Param("status") OutboxStatus status,
+        @Param("attempts") int attempts,
+        @Param("nextAttemptAt") LocalDateTime nextAttemptAt
+    );
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = :status AND e.publishedAt < :before")
+    int deletePublishedBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+
+}
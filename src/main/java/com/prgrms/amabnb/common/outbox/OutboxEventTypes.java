@@ -0,0 +1,36 @@
+package com.prgrms.amabnb.common.outbox;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.prgrms.amabnb.reservation.event.ReservationAutoRejectedEvent;
+import com.prgrms.amabnb.reservation.event.ReservationStatusChangedEvent;
+
+public final class OutboxEventTypes {
+
+    // stored type names are resolved only through this list, never with Class.forName
+    private static final Map<String, Class<?>> TYPES = List.<Class<?>>of(
+            ReservationStatusChangedEvent.class,
+            ReservationAutoRejectedEvent.class
+        ).stream()
+        .collect(Collectors.toUnmodifiableMap(Class::getName, Function.identity()));
+
+    private OutboxEventTypes() {
+    }
+
+    public static String nameOf(Object event) {
+        String name = event.getClass().getName();
+        if (!TYPES.containsKey(name)) {
+            throw new IllegalArgumentException("아웃박스에 등록되지 않은 이벤트 타입입니다. " + name);
+        }
+        return name;
+    }
+
+    public static Optional<Class<?>> find(String name) {
+        return Optional.ofNullable(TYPES.get(name));
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.prgrms.amabnb.common.outbox;
+
+public enum OutboxStatus {
+    PENDING,
+    PUBLISHED,
+    FAILED
+}
@@ -0,0 +1,18 @@
+package com.prgrms.amabnb.common.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OptimisticLockRetry {
+
+    int maxAttempts() default 3;
+
+    long backoffMillis() default 20L;
+
+    long maxBackoffMillis() default 200L;
+
+}
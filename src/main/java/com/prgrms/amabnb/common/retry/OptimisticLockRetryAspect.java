@@ -0,0 +1,43 @@
+package com.prgrms.amabnb.common.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OptimisticLockRetryAspect {
+
+    @Around("@annotation(retry)")
+    public Object retry(ProceedingJoinPoint joinPoint, OptimisticLockRetry retry) throws Throwable {
+        int attempt = 1;
+        while (true) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= retry.maxAttempts()) {
+                    throw e;
+                }
+                log.warn("[RETRY] {} optimistic lock conflict, attempt {}/{}",
+                    joinPoint.getSignature().toShortString(), attempt, retry.maxAttempts());
+                backoff(retry, attempt++);
+            }
+        }
+    }
+
+    private void backoff(OptimisticLockRetry retry, int attempt) throws InterruptedException {
+        long ceiling = Math.min(retry.maxBackoffMillis(), retry.backoffMillis() << (attempt - 1));
+        Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+}
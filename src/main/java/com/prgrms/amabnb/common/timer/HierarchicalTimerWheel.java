@@ -0,0 +1,121 @@
+package com.prgrms.amabnb.common.timer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class HierarchicalTimerWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] spans;
+    private final List<List<Set<K>>> wheels;
+    private final Map<K, Slot> slots = new HashMap<>();
+    private long currentTick;
+
+    public HierarchicalTimerWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("타이머 휠 설정이 올바르지 않습니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.spans = new long[levels];
+        this.wheels = new ArrayList<>(levels);
+        long span = 1;
+        for (int level = 0; level < levels; level++) {
+            spans[level] = span;
+            span = Math.multiplyExact(span, wheelSize);
+            List<Set<K>> buckets = new ArrayList<>(wheelSize);
+            for (int index = 0; index < wheelSize; index++) {
+                buckets.add(new LinkedHashSet<>());
+            }
+            wheels.add(buckets);
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        place(key, Math.max(deadlineTick, currentTick + 1));
+    }
+
+    public synchronized boolean cancel(K key) {
+        Slot slot = slots.remove(key);
+        if (slot == null) {
+            return false;
+        }
+        wheels.get(slot.level()).get(slot.index()).remove(key);
+        return true;
+    }
+
+    public synchronized List<K> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        if (slots.isEmpty()) {
+            currentTick = Math.max(currentTick, targetTick);
+            return List.of();
+        }
+
+        List<K> expired = new ArrayList<>();
+        while (currentTick < targetTick && !slots.isEmpty()) {
+            currentTick++;
+            for (int level = spans.length - 1; level > 0; level--) {
+                if (currentTick % spans[level] == 0) {
+                    drain(level, expired);
+                }
+            }
+            drain(0, expired);
+        }
+        currentTick = Math.max(currentTick, targetTick);
+        return expired;
+    }
+
+    public synchronized int size() {
+        return slots.size();
+    }
+
+    public synchronized void clear(long nowMillis) {
+        slots.clear();
+        wheels.forEach(buckets -> buckets.forEach(Set::clear));
+        currentTick = nowMillis / tickMillis;
+    }
+
+    private void drain(int level, List<K> expired) {
+        Set<K> bucket = wheels.get(level).get(indexOf(currentTick, level));
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<K> keys = new ArrayList<>(bucket);
+        bucket.clear();
+        for (K key : keys) {
+            Slot slot = slots.remove(key);
+            if (slot.deadlineTick() <= currentTick) {
+                expired.add(key);
+            } else {
+                place(key, slot.deadlineTick());
+            }
+        }
+    }
+
+    private void place(K key, long deadlineTick) {
+        long delay = deadlineTick - currentTick;
+        int level = 0;
+        while (level < spans.length - 1 && delay >= spans[level] * wheelSize) {
+            level++;
+        }
+        int index = indexOf(deadlineTick, level);
+        wheels.get(level).get(index).add(key);
+        slots.put(key, new Slot(deadlineTick, level, index));
+    }
+
+    private int indexOf(long tick, int level) {
+        return (int)((tick / spans[level]) % wheelSize);
+    }
+
+    private record Slot(long deadlineTick, int level, int index) {
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.prgrms.amabnb.reservation.api;
+
+import javax.validation.Valid;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.prgrms.amabnb.common.model.ApiResponse;
+import com.prgrms.amabnb.reservation.dto.request.CreateBookingHoldRequest;
+import com.prgrms.amabnb.reservation.dto.response.BookingHoldResponse;
+import com.prgrms.amabnb.reservation.service.BookingHoldService;
+import com.prgrms.amabnb.security.jwt.JwtAuthentication;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+public class BookingHoldApi {
+
+    private final BookingHoldService bookingHoldService;
+
+    @PostMapping("/reservations/holds")
+    public ResponseEntity<ApiResponse<BookingHoldResponse>> hold(
+        @AuthenticationPrincipal JwtAuthentication user,
+        @Valid @RequestBody CreateBookingHoldRequest request
+    ) {
+        return ResponseEntity
+            .status(HttpStatus.CREATED)
+            .body(new ApiResponse<>(bookingHoldService.hold(user.id(), request)));
+    }
+
+    @DeleteMapping("/reservations/holds/{holdId}")
+    public ResponseEntity<Void> release(
+        @AuthenticationPrincipal JwtAuthentication user,
+        @PathVariable String holdId
+    ) {
+        bookingHoldService.release(user.id(), holdId);
+
+        return ResponseEntity.noContent().build();
+    }
+
+}
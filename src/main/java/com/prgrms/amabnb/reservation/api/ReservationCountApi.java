@@ -0,0 +1,28 @@
+package com.prgrms.amabnb.reservation.api;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.prgrms.amabnb.common.model.ApiResponse;
+import com.prgrms.amabnb.reservation.dto.response.ReservationCountResponse;
+import com.prgrms.amabnb.reservation.service.ReservationStatusCountService;
+import com.prgrms.amabnb.security.jwt.JwtAuthentication;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+public class ReservationCountApi {
+
+    private final ReservationStatusCountService reservationStatusCountService;
+
+    @GetMapping("/reservations/counts")
+    public ResponseEntity<ApiResponse<ReservationCountResponse>> getCounts(
+        @AuthenticationPrincipal JwtAuthentication user
+    ) {
+        return ResponseEntity.ok(new ApiResponse<>(reservationStatusCountService.getCounts(user.id())));
+    }
+
+}
@@ -1,10 +1,13 @@
 package com.prgrms.amabnb.reservation.api;
 
 import java.net.URI;
+import java.time.YearMonth;
 import java.util.List;
 
 import javax.validation.Valid;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,9 +16,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.prgrms.amabnb.common.idempotency.IdempotencyStore;
 import com.prgrms.amabnb.common.model.ApiResponse;
 import com.prgrms.amabnb.reservation.dto.request.CreateReservationRequest;
 import com.prgrms.amabnb.reservation.dto.request.ReservationDateRequest;
@@ -23,7 +30,11 @@ import com.prgrms.amabnb.reservation.dto.request.ReservationUpdateRequest;
 import com.prgrms.amabnb.reservation.dto.request.SearchReservationsRequest;
 import com.prgrms.amabnb.reservation.dto.response.ReservationDateResponse;
 import com.prgrms.amabnb.reservation.dto.response.ReservationResponseForGuest;
+import com.prgrms.amabnb.reservation.dto.response.RoomAvailabilityResponse;
 import com.prgrms.amabnb.reservation.service.ReservationGuestService;
+import com.prgrms.amabnb.reservation.service.RoomCalendarService;
+import com.prgrms.amabnb.reservation.service.RoomIcsFeed;
+import com.prgrms.amabnb.reservation.service.RoomIcsService;
 import com.prgrms.amabnb.security.jwt.JwtAuthentication;
 
 import lombok.RequiredArgsConstructor;
@@ -31,14 +42,21 @@ import lombok.RequiredArgsConstructor;
 @RestController
 @RequiredArgsConstructor
 public class ReservationGuestApi {
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
     private final ReservationGuestService reservationGuestService;
+    private final RoomCalendarService roomCalendarService;
+    private final RoomIcsService roomIcsService;
+    private final IdempotencyStore idempotencyStore;
 
     @PostMapping("/reservations")
     public ResponseEntity<ApiResponse<ReservationResponseForGuest>> createReservation(
         @Valid @RequestBody CreateReservationRequest request,
-        @AuthenticationPrincipal JwtAuthentication user
+        @AuthenticationPrincipal JwtAuthentication user,
+        @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
     ) {
-        ReservationResponseForGuest response = reservationGuestService.createReservation(user.id(), request);
+        ReservationResponseForGuest response = createReservation(user.id(), request, idempotencyKey);
         URI uri = generateUri(response);
         return ResponseEntity
             .created(uri)
@@ -53,6 +71,27 @@ public class ReservationGuestApi {
         return ResponseEntity.ok(new ApiResponse<>(reservationGuestService.getReservationDates(roomId, request)));
     }
 
+    @GetMapping("/rooms/{roomId}/availability")
+    public ResponseEntity<ApiResponse<RoomAvailabilityResponse>> getMonthAvailability(
+        @PathVariable Long roomId,
+        @RequestParam YearMonth month
+    ) {
+        return ResponseEntity.ok(new ApiResponse<>(roomCalendarService.getMonthAvailability(roomId, month)));
+    }
+
+    @GetMapping("/rooms/ics/{token}.ics")
+    public ResponseEntity<byte[]> getIcsFeed(@PathVariable String token, WebRequest webRequest) {
+        RoomIcsFeed feed = roomIcsService.getFeed(token);
+        if (webRequest.checkNotModified(feed.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .contentType(TEXT_CALENDAR)
+            .eTag(feed.etag())
+            .cacheControl(CacheControl.noCache())
+            .body(feed.body());
+    }
+
     @GetMapping("/guest/reservations/{reservationId}")
     public ResponseEntity<ApiResponse<ReservationResponseForGuest>> getReservation(
         @AuthenticationPrincipal JwtAuthentication user,
@@ -88,6 +127,18 @@ public class ReservationGuestApi {
         return ResponseEntity.noContent().build();
     }
 
+    private ReservationResponseForGuest createReservation(
+        Long userId,
+        CreateReservationRequest request,
+        String idempotencyKey
+    ) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return reservationGuestService.createReservation(userId, request);
+        }
+        return idempotencyStore.execute(userId, idempotencyKey, request,
+            () -> reservationGuestService.createReservation(userId, request));
+    }
+
     private URI generateUri(ReservationResponseForGuest response) {
         return ServletUriComponentsBuilder.fromCurrentRequest()
             .path("/{reservationId}")
@@ -2,19 +2,38 @@ package com.prgrms.amabnb.reservation.api;
 
 import java.util.List;
 
+import javax.validation.Valid;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.prgrms.amabnb.common.model.ApiResponse;
+import com.prgrms.amabnb.reservation.dto.request.BulkReservationRequest;
+import com.prgrms.amabnb.reservation.dto.request.HostCalendarRequest;
+import com.prgrms.amabnb.reservation.dto.request.ReservationExportFormat;
+import com.prgrms.amabnb.reservation.dto.request.ReservationInboxRequest;
 import com.prgrms.amabnb.reservation.dto.request.SearchReservationsRequest;
+import com.prgrms.amabnb.reservation.dto.response.BulkReservationResponse;
+import com.prgrms.amabnb.reservation.dto.response.HostCalendarResponse;
+import com.prgrms.amabnb.reservation.dto.response.ReservationInboxResponse;
 import com.prgrms.amabnb.reservation.dto.response.ReservationInfoResponse;
 import com.prgrms.amabnb.reservation.dto.response.ReservationResponseForHost;
+import com.prgrms.amabnb.reservation.dto.response.RoomIcsFeedUrlResponse;
+import com.prgrms.amabnb.reservation.service.HostCalendarService;
+import com.prgrms.amabnb.reservation.service.ReservationExportService;
 import com.prgrms.amabnb.reservation.service.ReservationHostService;
+import com.prgrms.amabnb.reservation.service.RoomIcsService;
 import com.prgrms.amabnb.security.jwt.JwtAuthentication;
 
 import lombok.RequiredArgsConstructor;
@@ -24,6 +43,9 @@ import lombok.RequiredArgsConstructor;
 public class ReservationHostApi {
 
     private final ReservationHostService reservationHostService;
+    private final ReservationExportService reservationExportService;
+    private final HostCalendarService hostCalendarService;
+    private final RoomIcsService roomIcsService;
 
     @GetMapping("/host/reservations/{reservationId}")
     public ResponseEntity<ApiResponse<ReservationResponseForHost>> getReservation(
@@ -41,6 +63,46 @@ public class ReservationHostApi {
         return ResponseEntity.ok(new ApiResponse<>(reservationHostService.getReservations(user.id(), request)));
     }
 
+    @GetMapping("/host/reservations/inbox")
+    public ResponseEntity<ApiResponse<ReservationInboxResponse>> getInbox(
+        @AuthenticationPrincipal JwtAuthentication user,
+        ReservationInboxRequest request
+    ) {
+        return ResponseEntity.ok(new ApiResponse<>(reservationHostService.getInbox(user.id(), request)));
+    }
+
+    @GetMapping("/host/reservations/calendar")
+    public ResponseEntity<ApiResponse<HostCalendarResponse>> getCalendar(
+        @AuthenticationPrincipal JwtAuthentication user,
+        HostCalendarRequest request
+    ) {
+        return ResponseEntity.ok(new ApiResponse<>(hostCalendarService.getCalendar(user.id(), request)));
+    }
+
+    @PostMapping("/host/rooms/{roomId}/calendar-feed")
+    public ResponseEntity<ApiResponse<RoomIcsFeedUrlResponse>> issueCalendarFeed(
+        @AuthenticationPrincipal JwtAuthentication user,
+        @PathVariable Long roomId
+    ) {
+        return ResponseEntity.ok(new ApiResponse<>(roomIcsService.issueFeedUrl(user.id(), roomId)));
+    }
+
+    @GetMapping("/host/reservations/export")
+    public ResponseEntity<StreamingResponseBody> exportReservations(
+        @AuthenticationPrincipal JwtAuthentication user,
+        @RequestParam(defaultValue = "CSV") ReservationExportFormat format
+    ) {
+        reservationExportService.validateHost(user.id());
+        StreamingResponseBody body = outputStream -> reservationExportService.export(user.id(), format, outputStream);
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+            .filename("reservations." + format.getExtension())
+            .build();
+        return ResponseEntity.ok()
+            .contentType(format.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+            .body(body);
+    }
+
     @PutMapping("/host/reservations/{reservationId}")
     public ResponseEntity<ApiResponse<ReservationInfoResponse>> approveReservation(
         @AuthenticationPrincipal JwtAuthentication user,
@@ -49,6 +111,14 @@ public class ReservationHostApi {
         return ResponseEntity.ok(new ApiResponse<>(reservationHostService.approve(user.id(), reservationId)));
     }
 
+    @PostMapping("/host/reservations/bulk")
+    public ResponseEntity<ApiResponse<BulkReservationResponse>> changeStatuses(
+        @AuthenticationPrincipal JwtAuthentication user,
+        @Valid @RequestBody BulkReservationRequest request
+    ) {
+        return ResponseEntity.ok(new ApiResponse<>(reservationHostService.changeStatuses(user.id(), request)));
+    }
+
     @DeleteMapping("/host/reservations/{reservationId}")
     public ResponseEntity<Void> cancelByHost(
         @AuthenticationPrincipal JwtAuthentication user,
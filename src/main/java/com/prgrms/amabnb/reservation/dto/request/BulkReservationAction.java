@@ -0,0 +1,17 @@
+package com.prgrms.amabnb.reservation.dto.request;
+
+import com.prgrms.amabnb.reservation.entity.ReservationStatus;
+
+import lombok.Getter;
+
+@Getter
+public enum BulkReservationAction {
+    APPROVE(ReservationStatus.APPROVED),
+    CANCEL(ReservationStatus.HOST_CANCELED);
+
+    private final ReservationStatus status;
+
+    BulkReservationAction(ReservationStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,29 @@
+package com.prgrms.amabnb.reservation.dto.request;
+
+import java.util.List;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BulkReservationRequest {
+
+    @NotEmpty(message = "예약 아이디는 비어있을 수 없습니다.")
+    @Size(max = 300, message = "한 번에 300개까지 처리할 수 있습니다.")
+    private List<@NotNull Long> reservationIds;
+
+    @NotNull(message = "처리 방식은 비어있을 수 없습니다.")
+    private BulkReservationAction action;
+
+    public BulkReservationRequest(List<Long> reservationIds, BulkReservationAction action) {
+        this.reservationIds = reservationIds;
+        this.action = action;
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.prgrms.amabnb.reservation.dto.request;
+
+import java.time.LocalDate;
+
+import javax.validation.constraints.Future;
+import javax.validation.constraints.FutureOrPresent;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.prgrms.amabnb.reservation.entity.vo.ReservationDate;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CreateBookingHoldRequest {
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
+    @NotNull(message = "체크인은 비어있을 수 없습니다.")
+    @FutureOrPresent(message = "체크인은 현재보다 전일 수 없습니다.")
+    private LocalDate checkIn;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
+    @NotNull(message = "체크아웃은 비어있을 수 없습니다.")
+    @Future(message = "체크아웃은 현재보다 전이거나 현재일 수 없습니다.")
+    private LocalDate checkOut;
+
+    @NotNull(message = "숙소 아이디는 비어있을 수 없습니다.")
+    @Positive(message = "숙소 아이디는 양수여야 합니다.")
+    private Long roomId;
+
+    @Builder
+    public CreateBookingHoldRequest(LocalDate checkIn, LocalDate checkOut, Long roomId) {
+        this.checkIn = checkIn;
+        this.checkOut = checkOut;
+        this.roomId = roomId;
+    }
+
+    public ReservationDate toReservationDate() {
+        return new ReservationDate(checkIn, checkOut);
+    }
+}
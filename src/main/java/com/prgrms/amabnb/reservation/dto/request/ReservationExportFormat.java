@@ -0,0 +1,19 @@
+package com.prgrms.amabnb.reservation.dto.request;
+
+import org.springframework.http.MediaType;
+
+import lombok.Getter;
+
+@Getter
+public enum ReservationExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ReservationExportFormat(String mediaType, String extension) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.extension = extension;
+    }
+}
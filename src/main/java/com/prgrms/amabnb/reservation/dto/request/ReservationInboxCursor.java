@@ -0,0 +1,53 @@
+package com.prgrms.amabnb.reservation.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import com.prgrms.amabnb.reservation.dto.response.ReservationDto;
+import com.prgrms.amabnb.reservation.exception.ReservationInvalidValueException;
+
+import lombok.Getter;
+
+@Getter
+public class ReservationInboxCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final ReservationInboxSort sort;
+    private final LocalDate checkIn;
+    private final Long reservationId;
+
+    public ReservationInboxCursor(ReservationInboxSort sort, LocalDate checkIn, Long reservationId) {
+        this.sort = sort;
+        this.checkIn = checkIn;
+        this.reservationId = reservationId;
+    }
+
+    public static ReservationInboxCursor after(ReservationInboxSort sort, ReservationDto reservation) {
+        return new ReservationInboxCursor(sort, reservation.getCheckIn(), reservation.getId());
+    }
+
+    public static ReservationInboxCursor decode(String cursor, ReservationInboxSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split("\\" + DELIMITER);
+            ReservationInboxSort cursorSort = ReservationInboxSort.valueOf(values[0]);
+            if (cursorSort != sort) {
+                throw new IllegalArgumentException();
+            }
+            return new ReservationInboxCursor(cursorSort, LocalDate.parse(values[1]), Long.valueOf(values[2]));
+        } catch (RuntimeException e) {
+            throw new ReservationInvalidValueException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String value = sort.name() + DELIMITER + checkIn + DELIMITER + reservationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.prgrms.amabnb.reservation.dto.request;
+
+import com.prgrms.amabnb.reservation.entity.ReservationStatus;
+
+import lombok.Getter;
+
+@Getter
+public class ReservationInboxRequest {
+
+    private static final int DEFAULT_SIZE = 10;
+    private static final int MIN_SIZE = 1;
+    private static final int MAX_SIZE = 50;
+
+    private int pageSize;
+    private ReservationStatus status;
+    private ReservationInboxSort sort;
+    private String cursor;
+
+    public ReservationInboxRequest(int pageSize, ReservationStatus status, ReservationInboxSort sort, String cursor) {
+        this.pageSize = checkSize(pageSize);
+        this.status = status;
+        this.sort = sort == null ? ReservationInboxSort.ID : sort;
+        this.cursor = cursor;
+    }
+
+    public ReservationInboxCursor toCursor() {
+        return ReservationInboxCursor.decode(cursor, sort);
+    }
+
+    private int checkSize(int size) {
+        if (size > MAX_SIZE || size < MIN_SIZE) {
+            return DEFAULT_SIZE;
+        }
+        return size;
+    }
+
+}
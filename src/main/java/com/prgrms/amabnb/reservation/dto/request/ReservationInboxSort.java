@@ -0,0 +1,5 @@
+package com.prgrms.amabnb.reservation.dto.request;
+
+public enum ReservationInboxSort {
+    ID, CHECK_IN
+}
@@ -0,0 +1,36 @@
+package com.prgrms.amabnb.reservation.dto.response;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import com.prgrms.amabnb.reservation.service.BookingHold;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class BookingHoldResponse {
+
+    private String holdId;
+    private Long roomId;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+    private LocalDateTime expiresAt;
+
+    public static BookingHoldResponse from(BookingHold hold) {
+        return new BookingHoldResponse(
+            hold.id(),
+            hold.roomId(),
+            hold.checkIn(),
+            hold.checkOut(),
+            LocalDateTime.ofInstant(Instant.ofEpochMilli(hold.expiresAtMillis()), ZoneId.systemDefault())
+        );
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.prgrms.amabnb.reservation.dto.response;
+
+public enum BulkReservationOutcome {
+    APPLIED,
+    NOT_FOUND,
+    FORBIDDEN,
+    INVALID_STATUS
+}
@@ -0,0 +1,25 @@
+package com.prgrms.amabnb.reservation.dto.response;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class BulkReservationResponse {
+
+    private List<Result> results;
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor
+    public static class Result {
+        private Long reservationId;
+        private BulkReservationOutcome outcome;
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.prgrms.amabnb.reservation.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.prgrms.amabnb.reservation.entity.ReservationStatus;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class HostCalendarResponse {
+
+    private LocalDate startDate;
+    private int days;
+    private List<RoomCalendar> rooms;
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor
+    public static class RoomCalendar {
+        private Long roomId;
+        // bit i (BitSet.toByteArray order, Base64) marks the night of startDate + i as occupied
+        private String occupiedNights;
+        private List<Entry> reservations;
+    }
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor
+    public static class Entry {
+        private Long reservationId;
+        private ReservationStatus reservationStatus;
+        private LocalDate checkIn;
+        private LocalDate checkOut;
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.prgrms.amabnb.reservation.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PendingReservationDto {
+    private Long id;
+    private LocalDateTime createdAt;
+
+    public PendingReservationDto(Long id, LocalDateTime createdAt) {
+        this.id = id;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,32 @@
+package com.prgrms.amabnb.reservation.dto.response;
+
+import java.time.LocalDate;
+
+import com.prgrms.amabnb.reservation.entity.ReservationStatus;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ReservationCalendarDto {
+    private Long id;
+    private Long roomId;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+    private ReservationStatus reservationStatus;
+
+    public ReservationCalendarDto(
+        Long id,
+        Long roomId,
+        LocalDate checkIn,
+        LocalDate checkOut,
+        ReservationStatus reservationStatus
+    ) {
+        this.id = id;
+        this.roomId = roomId;
+        this.checkIn = checkIn;
+        this.checkOut = checkOut;
+        this.reservationStatus = reservationStatus;
+    }
+}
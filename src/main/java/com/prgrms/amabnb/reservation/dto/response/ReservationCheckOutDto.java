@@ -0,0 +1,18 @@
+package com.prgrms.amabnb.reservation.dto.response;
+
+import java.time.LocalDate;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ReservationCheckOutDto {
+    private Long id;
+    private LocalDate checkOut;
+
+    public ReservationCheckOutDto(Long id, LocalDate checkOut) {
+        this.id = id;
+        this.checkOut = checkOut;
+    }
+}
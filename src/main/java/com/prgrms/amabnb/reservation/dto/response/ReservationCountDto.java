@@ -0,0 +1,20 @@
+package com.prgrms.amabnb.reservation.dto.response;
+
+import com.prgrms.amabnb.reservation.entity.ReservationStatus;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ReservationCountDto {
+    private Long userId;
+    private ReservationStatus reservationStatus;
+    private Long count;
+
+    public ReservationCountDto(Long userId, ReservationStatus reservationStatus, Long count) {
+        this.userId = userId;
+        this.reservationStatus = reservationStatus;
+        this.count = count;
+    }
+}
@@ -0,0 +1,20 @@
+package com.prgrms.amabnb.reservation.dto.response;
+
+import java.util.Map;
+
+import com.prgrms.amabnb.reservation.entity.ReservationStatus;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class ReservationCountResponse {
+
+    private Map<ReservationStatus, Long> asGuest;
+    private Map<ReservationStatus, Long> asHost;
+
+}
@@ -0,0 +1,50 @@
+package com.prgrms.amabnb.reservation.dto.response;
+
+import java.time.LocalDate;
+
+import com.prgrms.amabnb.reservation.entity.ReservationStatus;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ReservationExportDto {
+    private Long id;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+    private int totalGuest;
+    private int totalPrice;
+    private ReservationStatus reservationStatus;
+    private Long roomId;
+    private String roomName;
+    private Long guestId;
+    private String guestName;
+    private String guestEmail;
+
+    public ReservationExportDto(
+        Long id,
+        LocalDate checkIn,
+        LocalDate checkOut,
+        int totalGuest,
+        int totalPrice,
+        ReservationStatus reservationStatus,
+        Long roomId,
+        String roomName,
+        Long guestId,
+        String guestName,
+        String guestEmail
+    ) {
+        this.id = id;
+        this.checkIn = checkIn;
+        this.checkOut = checkOut;
+        this.totalGuest = totalGuest;
+        this.totalPrice = totalPrice;
+        this.reservationStatus = reservationStatus;
+        this.roomId = roomId;
+        this.roomName = roomName;
+        this.guestId = guestId;
+        this.guestName = guestName;
+        this.guestEmail = guestEmail;
+    }
+}
@@ -0,0 +1,18 @@
+package com.prgrms.amabnb.reservation.dto.response;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class ReservationInboxResponse {
+
+    private List<ReservationResponseForHost> reservations;
+    private String nextCursor;
+
+}
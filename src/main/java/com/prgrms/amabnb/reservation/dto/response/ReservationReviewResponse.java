@@ -13,18 +13,21 @@ public class ReservationReviewResponse {
     private Long reservationId;
     private ReservationStatus status;
     private Long guestId;
+    private Long roomId;
 
-    public ReservationReviewResponse(Long reservationId, ReservationStatus status, Long guestId) {
+    public ReservationReviewResponse(Long reservationId, ReservationStatus status, Long guestId, Long roomId) {
         this.reservationId = reservationId;
         this.status = status;
         this.guestId = guestId;
+        this.roomId = roomId;
     }
 
     public static ReservationReviewResponse from(Reservation reservation) {
         return new ReservationReviewResponse(
                 reservation.getId(),
                 reservation.getReservationStatus(),
-                reservation.getGuest().getId()
+                reservation.getGuest().getId(),
+                reservation.getRoom().getId()
         );
     }
 }
@@ -0,0 +1,30 @@
+package com.prgrms.amabnb.reservation.dto.response;
+
+import com.prgrms.amabnb.reservation.entity.ReservationStatus;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ReservationStateDto {
+    private Long id;
+    private Long roomId;
+    private Long hostId;
+    private Long guestId;
+    private ReservationStatus reservationStatus;
+
+    public ReservationStateDto(
+        Long id,
+        Long roomId,
+        Long hostId,
+        Long guestId,
+        ReservationStatus reservationStatus
+    ) {
+        this.id = id;
+        this.roomId = roomId;
+        this.hostId = hostId;
+        this.guestId = guestId;
+        this.reservationStatus = reservationStatus;
+    }
+}
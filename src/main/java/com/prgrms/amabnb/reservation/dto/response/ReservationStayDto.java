@@ -0,0 +1,22 @@
+package com.prgrms.amabnb.reservation.dto.response;
+
+import java.time.LocalDate;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ReservationStayDto {
+    private Long id;
+    private Long roomId;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+
+    public ReservationStayDto(Long id, Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        this.id = id;
+        this.roomId = roomId;
+        this.checkIn = checkIn;
+        this.checkOut = checkOut;
+    }
+}
@@ -0,0 +1,43 @@
+package com.prgrms.amabnb.reservation.dto.response;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RoomAvailabilityResponse {
+
+    private YearMonth month;
+    private boolean startsBlocked;
+    private List<Integer> runs;
+
+    public RoomAvailabilityResponse(YearMonth month, boolean startsBlocked, List<Integer> runs) {
+        this.month = month;
+        this.startsBlocked = startsBlocked;
+        this.runs = runs;
+    }
+
+    public static RoomAvailabilityResponse of(YearMonth month, BitSet blockedNights) {
+        int days = month.lengthOfMonth();
+        List<Integer> runs = new ArrayList<>();
+        boolean blocked = blockedNights.get(0);
+        int from = 0;
+        while (from < days) {
+            int to = blocked ? blockedNights.nextClearBit(from) : blockedNights.nextSetBit(from);
+            if (to < 0 || to > days) {
+                to = days;
+            }
+            runs.add(to - from);
+            from = to;
+            blocked = !blocked;
+        }
+        return new RoomAvailabilityResponse(month, blockedNights.get(0), List.copyOf(runs));
+    }
+
+}
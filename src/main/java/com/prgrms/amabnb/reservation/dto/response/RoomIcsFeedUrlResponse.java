@@ -0,0 +1,13 @@
+package com.prgrms.amabnb.reservation.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class RoomIcsFeedUrlResponse {
+    private String feedPath;
+}
@@ -9,11 +9,15 @@ import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
+import javax.persistence.ForeignKey;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.Version;
 
 import com.prgrms.amabnb.common.model.BaseEntity;
 import com.prgrms.amabnb.common.vo.Money;
@@ -31,8 +35,16 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    @Index(name = "idx_reservation_status_check_out", columnList = "reservation_status, check_out"),
+    @Index(name = "idx_reservation_host_status_id", columnList = "host_id, reservation_status, id"),
+    @Index(name = "idx_reservation_host_id", columnList = "host_id, id"),
+    @Index(name = "idx_reservation_host_check_in", columnList = "host_id, check_in, id"),
+    @Index(name = "idx_reservation_host_check_out", columnList = "host_id, check_out")
+})
 public class Reservation extends BaseEntity {
 
+    public static final String GUEST_FOREIGN_KEY = "fk_reservation_guest";
     private static final int GUEST_MIN_VALUE = 1;
 
     @Id
@@ -49,6 +61,7 @@ public class Reservation extends BaseEntity {
     private Money totalPrice;
 
     @Enumerated(value = EnumType.STRING)
+    @Column(name = "reservation_status")
     private ReservationStatus reservationStatus;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -56,9 +69,15 @@ public class Reservation extends BaseEntity {
     private Room room;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "users_id")
+    @JoinColumn(name = "users_id", foreignKey = @ForeignKey(name = GUEST_FOREIGN_KEY))
     private User guest;
 
+    @Column(name = "host_id")
+    private Long hostId;
+
+    @Version
+    private Long version;
+
     @Builder
     public Reservation(
         Long id,
@@ -91,16 +110,16 @@ public class Reservation extends BaseEntity {
         this.totalPrice = this.totalPrice.add(payment);
     }
 
-    public boolean isNotHost(User user) {
-        return !this.room.isHost(user);
+    public boolean isNotHost(Long userId) {
+        return !this.room.isHost(userId);
     }
 
-    public boolean isNotGuest(User user) {
-        return !this.guest.isSame(user);
+    public boolean isNotGuest(Long userId) {
+        return !this.guest.getId().equals(userId);
     }
 
-    public boolean isNotValidatePrice() {
-        return !this.room.isValidatePrice(totalPrice, reservationDate.getPeriod());
+    public boolean isNotValidatePrice(long expectedTotalPrice) {
+        return this.totalPrice.getValue() != expectedTotalPrice;
     }
 
     public boolean isOverMaxGuest() {
@@ -144,6 +163,7 @@ public class Reservation extends BaseEntity {
             throw new ReservationInvalidValueException("숙소는 비어있을 수 없습니다.");
         }
         this.room = room;
+        this.hostId = room.getHost() == null ? null : room.getHost().getId();
     }
 
     private void setGuest(User guest) {
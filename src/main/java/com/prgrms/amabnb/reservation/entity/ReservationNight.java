@@ -0,0 +1,59 @@
+package com.prgrms.amabnb.reservation.entity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    uniqueConstraints = @UniqueConstraint(
+        name = ReservationNight.ROOM_NIGHT_UNIQUE_KEY,
+        columnNames = {"room_id", "night"}
+    ),
+    indexes = @Index(name = "idx_reservation_night_reservation", columnList = "reservation_id")
+)
+public class ReservationNight {
+
+    public static final String ROOM_NIGHT_UNIQUE_KEY = "uk_reservation_night_room_night";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "night", nullable = false)
+    private LocalDate night;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    public ReservationNight(Long roomId, LocalDate night, Long reservationId) {
+        this.roomId = roomId;
+        this.night = night;
+        this.reservationId = reservationId;
+    }
+
+    public static List<ReservationNight> of(Reservation reservation, LocalDate from, LocalDate to) {
+        Long roomId = reservation.getRoom().getId();
+        return from.datesUntil(to)
+            .map(night -> new ReservationNight(roomId, night, reservation.getId()))
+            .toList();
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.prgrms.amabnb.reservation.entity;
+
+public enum ReservationRole {
+    GUEST,
+    HOST
+}
@@ -0,0 +1,55 @@
+package com.prgrms.amabnb.reservation.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(
+    name = "uk_reservation_status_count_user_role_status",
+    columnNames = {"user_id", "role", "reservation_status"}
+))
+public class ReservationStatusCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role", nullable = false)
+    private ReservationRole role;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reservation_status", nullable = false)
+    private ReservationStatus reservationStatus;
+
+    @Column(name = "reservation_count", nullable = false)
+    private long count;
+
+    public ReservationStatusCount(Long userId, ReservationRole role, ReservationStatus reservationStatus, long count) {
+        this.userId = userId;
+        this.role = role;
+        this.reservationStatus = reservationStatus;
+        this.count = count;
+    }
+
+    public void correct(long count) {
+        this.count = count;
+    }
+
+}
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 
 import javax.persistence.Access;
 import javax.persistence.AccessType;
+import javax.persistence.Column;
 import javax.persistence.Embeddable;
 
 import com.prgrms.amabnb.reservation.exception.ReservationInvalidValueException;
@@ -21,7 +22,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ReservationDate {
 
+    @Column(name = "check_in")
     private LocalDate checkIn;
+
+    @Column(name = "check_out")
     private LocalDate checkOut;
 
     public ReservationDate(LocalDate checkIn, LocalDate checkOut) {
@@ -0,0 +1,9 @@
+package com.prgrms.amabnb.reservation.event;
+
+public record ReservationAutoRejectedEvent(
+    Long reservationId,
+    Long roomId,
+    Long guestId,
+    Long approvedReservationId
+) {
+}
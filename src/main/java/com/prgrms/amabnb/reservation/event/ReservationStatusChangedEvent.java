@@ -0,0 +1,35 @@
+package com.prgrms.amabnb.reservation.event;
+
+import com.prgrms.amabnb.reservation.dto.response.ReservationStateDto;
+import com.prgrms.amabnb.reservation.entity.Reservation;
+import com.prgrms.amabnb.reservation.entity.ReservationStatus;
+
+public record ReservationStatusChangedEvent(
+    Long reservationId,
+    Long roomId,
+    Long guestId,
+    Long hostId,
+    ReservationStatus reservationStatus
+) {
+
+    public static ReservationStatusChangedEvent from(Reservation reservation) {
+        return new ReservationStatusChangedEvent(
+            reservation.getId(),
+            reservation.getRoom().getId(),
+            reservation.getGuest().getId(),
+            reservation.getHostId(),
+            reservation.getReservationStatus()
+        );
+    }
+
+    public static ReservationStatusChangedEvent of(ReservationStateDto state, ReservationStatus status) {
+        return new ReservationStatusChangedEvent(
+            state.getId(),
+            state.getRoomId(),
+            state.getGuestId(),
+            state.getHostId(),
+            status
+        );
+    }
+
+}
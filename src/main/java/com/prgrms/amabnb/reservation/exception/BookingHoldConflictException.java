@@ -0,0 +1,15 @@
+package com.prgrms.amabnb.reservation.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.prgrms.amabnb.common.exception.BusinessException;
+
+public class BookingHoldConflictException extends BusinessException {
+
+    private static final String MESSAGE = "다른 게스트가 결제 중인 기간입니다.";
+
+    public BookingHoldConflictException() {
+        super(HttpStatus.CONFLICT, MESSAGE);
+    }
+
+}
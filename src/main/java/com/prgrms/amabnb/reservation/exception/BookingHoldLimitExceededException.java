@@ -0,0 +1,13 @@
+package com.prgrms.amabnb.reservation.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.prgrms.amabnb.common.exception.BusinessException;
+
+public class BookingHoldLimitExceededException extends BusinessException {
+
+    public BookingHoldLimitExceededException(String message) {
+        super(HttpStatus.TOO_MANY_REQUESTS, message);
+    }
+
+}
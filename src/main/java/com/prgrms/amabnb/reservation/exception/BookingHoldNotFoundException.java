@@ -0,0 +1,13 @@
+package com.prgrms.amabnb.reservation.exception;
+
+import com.prgrms.amabnb.common.exception.EntityNotFoundException;
+
+public class BookingHoldNotFoundException extends EntityNotFoundException {
+
+    private static final String MESSAGE = "존재하지 않거나 만료된 예약 홀드입니다.";
+
+    public BookingHoldNotFoundException() {
+        super(MESSAGE);
+    }
+
+}
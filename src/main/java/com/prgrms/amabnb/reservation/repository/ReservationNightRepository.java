@@ -0,0 +1,22 @@
+package com.prgrms.amabnb.reservation.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.prgrms.amabnb.reservation.entity.ReservationNight;
+
+public interface ReservationNightRepository extends JpaRepository<ReservationNight, Long> {
+
+    @Modifying
+    @Query("DELETE FROM ReservationNight n WHERE n.reservationId = :reservationId")
+    int deleteByReservationId(@Param("reservationId") Long reservationId);
+
+    @Modifying
+    @Query("DELETE FROM ReservationNight n WHERE n.reservationId IN :reservationIds")
+    int deleteByReservationIdIn(@Param("reservationIds") Collection<Long> reservationIds);
+
+}
@@ -1,12 +1,23 @@
 package com.prgrms.amabnb.reservation.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.prgrms.amabnb.reservation.dto.response.PendingReservationDto;
+import com.prgrms.amabnb.reservation.dto.response.ReservationCheckOutDto;
+import com.prgrms.amabnb.reservation.dto.response.ReservationCountDto;
+import com.prgrms.amabnb.reservation.dto.response.ReservationStateDto;
 import com.prgrms.amabnb.reservation.entity.Reservation;
+import com.prgrms.amabnb.reservation.entity.ReservationStatus;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationRepositoryCustom {
 
@@ -28,4 +39,78 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>,
         + "WHERE r.id = :reservationId")
     Optional<Reservation> findReservationByIdWithGuest(@Param("reservationId") Long reservationId);
 
+    @Query("SELECT new com.prgrms.amabnb.reservation.dto.response.ReservationCheckOutDto(r.id, "
+        + "r.reservationDate.checkOut) "
+        + "FROM Reservation r "
+        + "WHERE r.reservationStatus = :status "
+        + "AND r.reservationDate.checkOut <= :date "
+        + "AND (r.reservationDate.checkOut > :lastCheckOut "
+        + "OR (r.reservationDate.checkOut = :lastCheckOut AND r.id > :lastReservationId)) "
+        + "ORDER BY r.reservationDate.checkOut, r.id")
+    List<ReservationCheckOutDto> findCheckOutsByStatusUntil(
+        @Param("status") ReservationStatus status,
+        @Param("date") LocalDate date,
+        @Param("lastCheckOut") LocalDate lastCheckOut,
+        @Param("lastReservationId") Long lastReservationId,
+        Pageable pageable
+    );
+
+    @Query("SELECT new com.prgrms.amabnb.reservation.dto.response.PendingReservationDto(r.id, r.createdAt) "
+        + "FROM Reservation r "
+        + "WHERE r.reservationStatus = :status "
+        + "AND r.id > :lastReservationId "
+        + "ORDER BY r.id")
+    List<PendingReservationDto> findPendingByStatus(
+        @Param("status") ReservationStatus status,
+        @Param("lastReservationId") Long lastReservationId,
+        Pageable pageable
+    );
+
+    @Query("SELECT new com.prgrms.amabnb.reservation.dto.response.ReservationStateDto("
+        + "r.id, r.room.id, r.hostId, r.guest.id, r.reservationStatus) "
+        + "FROM Reservation r "
+        + "WHERE r.id IN :ids")
+    List<ReservationStateDto> findStatesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.prgrms.amabnb.reservation.dto.response.ReservationStateDto("
+        + "r.id, r.room.id, r.hostId, r.guest.id, r.reservationStatus) "
+        + "FROM Reservation r "
+        + "WHERE r.room.id = :roomId "
+        + "AND r.id <> :reservationId "
+        + "AND r.reservationStatus = :status "
+        + "AND r.reservationDate.checkIn < :checkOut "
+        + "AND r.reservationDate.checkOut > :checkIn")
+    List<ReservationStateDto> findOverlappingByStatus(
+        @Param("roomId") Long roomId,
+        @Param("reservationId") Long reservationId,
+        @Param("status") ReservationStatus status,
+        @Param("checkIn") LocalDate checkIn,
+        @Param("checkOut") LocalDate checkOut
+    );
+
+    @Query("SELECT new com.prgrms.amabnb.reservation.dto.response.ReservationCountDto("
+        + "r.guest.id, r.reservationStatus, COUNT(r)) "
+        + "FROM Reservation r "
+        + "WHERE r.guest.id IN :userIds "
+        + "GROUP BY r.guest.id, r.reservationStatus")
+    List<ReservationCountDto> countByGuestIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT new com.prgrms.amabnb.reservation.dto.response.ReservationCountDto("
+        + "r.hostId, r.reservationStatus, COUNT(r)) "
+        + "FROM Reservation r "
+        + "WHERE r.hostId IN :userIds "
+        + "GROUP BY r.hostId, r.reservationStatus")
+    List<ReservationCountDto> countByHostIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Reservation r "
+        + "SET r.reservationStatus = :to, r.version = r.version + 1, r.updatedAt = :now "
+        + "WHERE r.id IN :ids AND r.reservationStatus = :from")
+    int changeStatusByIds(
+        @Param("ids") List<Long> ids,
+        @Param("from") ReservationStatus from,
+        @Param("to") ReservationStatus to,
+        @Param("now") LocalDateTime now
+    );
+
 }
@@ -3,12 +3,16 @@ package com.prgrms.amabnb.reservation.repository;
 import java.time.LocalDate;
 import java.util.List;
 
+import com.prgrms.amabnb.reservation.dto.request.ReservationInboxCursor;
+import com.prgrms.amabnb.reservation.dto.request.ReservationInboxSort;
+import com.prgrms.amabnb.reservation.dto.response.ReservationCalendarDto;
 import com.prgrms.amabnb.reservation.dto.response.ReservationDateResponse;
 import com.prgrms.amabnb.reservation.dto.response.ReservationDto;
+import com.prgrms.amabnb.reservation.dto.response.ReservationExportDto;
+import com.prgrms.amabnb.reservation.dto.response.ReservationStayDto;
 import com.prgrms.amabnb.reservation.entity.ReservationStatus;
 import com.prgrms.amabnb.reservation.entity.vo.ReservationDate;
 import com.prgrms.amabnb.room.entity.Room;
-import com.prgrms.amabnb.user.entity.User;
 
 public interface ReservationRepositoryCustom {
 
@@ -19,15 +23,29 @@ public interface ReservationRepositoryCustom {
     List<ReservationDto> findReservationsByGuestAndStatus(
         Long lastReservationId,
         int pageSize,
-        User guest,
+        Long guestId,
         ReservationStatus status
     );
 
     List<ReservationDto> findReservationsByHostAndStatus(
         Long lastReservationId,
         int pageSize,
-        User host,
+        Long hostId,
         ReservationStatus status
     );
 
+    List<ReservationDto> findInboxByHost(
+        Long hostId,
+        ReservationStatus status,
+        ReservationInboxSort sort,
+        ReservationInboxCursor cursor,
+        int limit
+    );
+
+    List<ReservationExportDto> findExportRowsAfter(Long hostId, Long lastReservationId, int limit);
+
+    List<ReservationCalendarDto> findCalendarByHost(Long hostId, LocalDate startDate, LocalDate endDate);
+
+    List<ReservationStayDto> findActiveStaysAfter(Long lastReservationId, LocalDate date, int pageSize);
+
 }
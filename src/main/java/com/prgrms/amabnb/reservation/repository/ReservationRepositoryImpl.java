@@ -7,12 +7,20 @@ import static com.prgrms.amabnb.user.entity.QUser.*;
 import java.time.LocalDate;
 import java.util.List;
 
+import javax.persistence.EntityManager;
+
+
+import com.prgrms.amabnb.reservation.dto.request.ReservationInboxCursor;
+import com.prgrms.amabnb.reservation.dto.request.ReservationInboxSort;
+import com.prgrms.amabnb.reservation.dto.response.ReservationCalendarDto;
 import com.prgrms.amabnb.reservation.dto.response.ReservationDateResponse;
 import com.prgrms.amabnb.reservation.dto.response.ReservationDto;
+import com.prgrms.amabnb.reservation.dto.response.ReservationExportDto;
+import com.prgrms.amabnb.reservation.dto.response.ReservationStayDto;
 import com.prgrms.amabnb.reservation.entity.ReservationStatus;
 import com.prgrms.amabnb.reservation.entity.vo.ReservationDate;
 import com.prgrms.amabnb.room.entity.Room;
-import com.prgrms.amabnb.user.entity.User;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.QBean;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -24,7 +32,17 @@ import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
+    private static final String EXPORT_QUERY = "SELECT new com.prgrms.amabnb.reservation.dto.response.ReservationExportDto("
+        + "r.id, r.reservationDate.checkIn, r.reservationDate.checkOut, r.totalGuest, r.totalPrice.value, "
+        + "r.reservationStatus, ro.id, ro.name, g.id, g.name, g.email.value) "
+        + "FROM Reservation r "
+        + "JOIN r.room ro "
+        + "JOIN r.guest g "
+        + "WHERE r.hostId = :hostId AND r.id > :lastReservationId "
+        + "ORDER BY r.id";
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     @Override
     public boolean existReservationByRoom(Room room, Long reservationId, ReservationDate reservationDate) {
@@ -37,7 +55,7 @@ public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
                 eqRoom(room)
                 , notEqReservationId(reservationId)
                 , notInCanceled()
-                , betweenCheckIn(checkIn, checkOut).or(betweenCheckOut(checkIn, checkOut))
+                , overlaps(checkIn, checkOut)
             )
             .fetchFirst();
 
@@ -56,7 +74,8 @@ public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
             .from(reservation)
             .where(reservation.room.id.eq(roomId),
                 notInCanceled(),
-                reservation.reservationDate.checkIn.between(startDate, endDate))
+                overlaps(startDate, endDate.plusDays(1)))
+            .orderBy(reservation.reservationDate.checkIn.asc())
             .fetch();
     }
 
@@ -64,7 +83,7 @@ public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
     public List<ReservationDto> findReservationsByGuestAndStatus(
         Long lastReservationId,
         int pageSize,
-        User guest,
+        Long guestId,
         ReservationStatus status
     ) {
         return queryFactory.select(toReservationDto(status))
@@ -73,7 +92,7 @@ public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
             .innerJoin(room.host, user)
             .where(ltReservationId(lastReservationId),
                 eqStatus(status),
-                eqGuest(guest))
+                eqGuest(guestId))
             .limit(pageSize)
             .orderBy(reservation.id.desc())
             .fetch();
@@ -83,7 +102,7 @@ public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
     public List<ReservationDto> findReservationsByHostAndStatus(
         Long reservationId,
         int pageSize,
-        User host,
+        Long hostId,
         ReservationStatus status
     ) {
         return queryFactory.select(toReservationDto(status))
@@ -92,12 +111,73 @@ public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
             .innerJoin(reservation.guest, user)
             .where(ltReservationId(reservationId),
                 eqStatus(status),
-                eqHost(host))
+                eqHost(hostId))
             .limit(pageSize)
             .orderBy(reservation.id.desc())
             .fetch();
     }
 
+    @Override
+    public List<ReservationDto> findInboxByHost(
+        Long hostId,
+        ReservationStatus status,
+        ReservationInboxSort sort,
+        ReservationInboxCursor cursor,
+        int limit
+    ) {
+        return queryFactory.select(toReservationDto(status))
+            .from(reservation)
+            .innerJoin(reservation.room, room)
+            .innerJoin(reservation.guest, user)
+            .where(eqHost(hostId),
+                eqStatus(status),
+                afterCursor(sort, cursor))
+            .orderBy(inboxOrder(sort))
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<ReservationExportDto> findExportRowsAfter(Long hostId, Long lastReservationId, int limit) {
+        return entityManager.createQuery(EXPORT_QUERY, ReservationExportDto.class)
+            .setParameter("hostId", hostId)
+            .setParameter("lastReservationId", lastReservationId)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public List<ReservationCalendarDto> findCalendarByHost(Long hostId, LocalDate startDate, LocalDate endDate) {
+        return queryFactory.select(Projections.constructor(ReservationCalendarDto.class,
+                reservation.id,
+                reservation.room.id,
+                reservation.reservationDate.checkIn,
+                reservation.reservationDate.checkOut,
+                reservation.reservationStatus))
+            .from(reservation)
+            .where(eqHost(hostId),
+                notInCanceled(),
+                overlaps(startDate, endDate.plusDays(1)))
+            .orderBy(reservation.room.id.asc(), reservation.reservationDate.checkIn.asc())
+            .fetch();
+    }
+
+    @Override
+    public List<ReservationStayDto> findActiveStaysAfter(Long lastReservationId, LocalDate date, int pageSize) {
+        return queryFactory.select(Projections.constructor(ReservationStayDto.class,
+                reservation.id,
+                reservation.room.id,
+                reservation.reservationDate.checkIn,
+                reservation.reservationDate.checkOut))
+            .from(reservation)
+            .where(gtReservationId(lastReservationId),
+                notInCanceled(),
+                reservation.reservationDate.checkOut.gt(date))
+            .orderBy(reservation.id.asc())
+            .limit(pageSize)
+            .fetch();
+    }
+
     private QBean<ReservationDto> toReservationDto(ReservationStatus status) {
         return Projections.fields(ReservationDto.class,
             reservation.id,
@@ -120,24 +200,40 @@ public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
         return reservation.reservationStatus.notIn(ReservationStatus.HOST_CANCELED, ReservationStatus.GUEST_CANCELED);
     }
 
-    private BooleanExpression betweenCheckOut(LocalDate checkIn, LocalDate checkOut) {
-        return reservation.reservationDate.checkOut.between(checkIn.plusDays(1L), checkOut);
-    }
-
-    private BooleanExpression betweenCheckIn(LocalDate checkIn, LocalDate checkOut) {
-        return reservation.reservationDate.checkIn.between(checkIn, checkOut.minusDays(1L));
+    private BooleanExpression overlaps(LocalDate checkIn, LocalDate checkOut) {
+        return reservation.reservationDate.checkIn.lt(checkOut)
+            .and(reservation.reservationDate.checkOut.gt(checkIn));
     }
 
     private BooleanExpression eqRoom(Room room) {
         return reservation.room.eq(room);
     }
 
-    private BooleanExpression eqGuest(User guest) {
-        return reservation.guest.eq(guest);
+    private BooleanExpression eqGuest(Long guestId) {
+        return reservation.guest.id.eq(guestId);
     }
 
-    private BooleanExpression eqHost(User host) {
-        return reservation.room.host.eq(host);
+    private BooleanExpression eqHost(Long hostId) {
+        return reservation.hostId.eq(hostId);
+    }
+
+    private BooleanExpression afterCursor(ReservationInboxSort sort, ReservationInboxCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (sort == ReservationInboxSort.CHECK_IN) {
+            return reservation.reservationDate.checkIn.gt(cursor.getCheckIn())
+                .or(reservation.reservationDate.checkIn.eq(cursor.getCheckIn())
+                    .and(reservation.id.gt(cursor.getReservationId())));
+        }
+        return reservation.id.lt(cursor.getReservationId());
+    }
+
+    private OrderSpecifier<?>[] inboxOrder(ReservationInboxSort sort) {
+        if (sort == ReservationInboxSort.CHECK_IN) {
+            return new OrderSpecifier<?>[] {reservation.reservationDate.checkIn.asc(), reservation.id.asc()};
+        }
+        return new OrderSpecifier<?>[] {reservation.id.desc()};
     }
 
     private BooleanExpression ltReservationId(Long reservationId) {
@@ -148,6 +244,13 @@ public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
 
     }
 
+    private BooleanExpression gtReservationId(Long reservationId) {
+        if (reservationId == null) {
+            return null;
+        }
+        return reservation.id.gt(reservationId);
+    }
+
     private BooleanExpression eqStatus(ReservationStatus reservationStatus) {
         if (reservationStatus == null) {
             return null;
@@ -0,0 +1,47 @@
+package com.prgrms.amabnb.reservation.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import javax.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.prgrms.amabnb.reservation.entity.ReservationRole;
+import com.prgrms.amabnb.reservation.entity.ReservationStatus;
+import com.prgrms.amabnb.reservation.entity.ReservationStatusCount;
+
+public interface ReservationStatusCountRepository extends JpaRepository<ReservationStatusCount, Long> {
+
+    List<ReservationStatusCount> findByUserId(Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ReservationStatusCount c "
+        + "WHERE c.userId IN :userIds "
+        + "ORDER BY c.userId, c.role, c.reservationStatus")
+    List<ReservationStatusCount> findByUserIdInForUpdate(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT c.userId FROM ReservationStatusCount c "
+        + "WHERE c.userId IN :userIds "
+        + "GROUP BY c.userId "
+        + "HAVING COUNT(c) = :expected")
+    List<Long> findUserIdsWithCounters(
+        @Param("userIds") Collection<Long> userIds,
+        @Param("expected") long expected
+    );
+
+    @Modifying
+    @Query("UPDATE ReservationStatusCount c SET c.count = c.count + :delta "
+        + "WHERE c.userId = :userId AND c.role = :role AND c.reservationStatus = :status")
+    int increase(
+        @Param("userId") Long userId,
+        @Param("role") ReservationRole role,
+        @Param("status") ReservationStatus status,
+        @Param("delta") long delta
+    );
+
+}
@@ -0,0 +1,23 @@
+package com.prgrms.amabnb.reservation.service;
+
+import java.time.LocalDate;
+
+public record BookingHold(
+    String id,
+    Long roomId,
+    Long userId,
+    LocalDate checkIn,
+    LocalDate checkOut,
+    long expiresAtMillis,
+    int renewals
+) {
+
+    public boolean isActive(long nowMillis) {
+        return expiresAtMillis > nowMillis;
+    }
+
+    public boolean overlaps(LocalDate checkIn, LocalDate checkOut) {
+        return this.checkIn.isBefore(checkOut) && checkIn.isBefore(this.checkOut);
+    }
+
+}
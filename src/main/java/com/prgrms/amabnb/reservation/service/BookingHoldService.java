@@ -0,0 +1,109 @@
+package com.prgrms.amabnb.reservation.service;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.prgrms.amabnb.common.transaction.TransactionCallbacks;
+import com.prgrms.amabnb.reservation.dto.request.CreateBookingHoldRequest;
+import com.prgrms.amabnb.reservation.dto.response.BookingHoldResponse;
+import com.prgrms.amabnb.reservation.entity.Reservation;
+import com.prgrms.amabnb.reservation.entity.vo.ReservationDate;
+import com.prgrms.amabnb.reservation.exception.AlreadyReservationRoomException;
+import com.prgrms.amabnb.reservation.exception.BookingHoldConflictException;
+import com.prgrms.amabnb.reservation.exception.BookingHoldNotFoundException;
+import com.prgrms.amabnb.reservation.exception.ReservationInvalidValueException;
+import com.prgrms.amabnb.room.entity.Room;
+import com.prgrms.amabnb.room.exception.RoomNotFoundException;
+import com.prgrms.amabnb.room.repository.RoomRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class BookingHoldService {
+
+    private final RoomRepository roomRepository;
+    private final RoomAvailabilityService roomAvailabilityService;
+    private final BookingHoldStore bookingHoldStore;
+    private final long ttlMillis;
+    private final long maxNights;
+
+    public BookingHoldService(
+        RoomRepository roomRepository,
+        RoomAvailabilityService roomAvailabilityService,
+        BookingHoldStore bookingHoldStore,
+        @Value("${reservation.hold.ttl:PT10M}") Duration ttl,
+        @Value("${reservation.hold.max-nights:30}") long maxNights
+    ) {
+        this.roomRepository = roomRepository;
+        this.roomAvailabilityService = roomAvailabilityService;
+        this.bookingHoldStore = bookingHoldStore;
+        this.ttlMillis = ttl.toMillis();
+        this.maxNights = maxNights;
+    }
+
+    public BookingHoldResponse hold(Long userId, CreateBookingHoldRequest request) {
+        Room room = roomRepository.findById(request.getRoomId())
+            .orElseThrow(RoomNotFoundException::new);
+        ReservationDate reservationDate = request.toReservationDate();
+        validateNights(reservationDate);
+        if (roomAvailabilityService.isReserved(room, reservationDate)) {
+            throw new AlreadyReservationRoomException();
+        }
+        return BookingHoldResponse.from(bookingHoldStore.hold(
+            room.getId(),
+            userId,
+            reservationDate.getCheckIn(),
+            reservationDate.getCheckOut(),
+            System.currentTimeMillis(),
+            ttlMillis
+        ));
+    }
+
+    public void release(Long userId, String holdId) {
+        if (!bookingHoldStore.release(holdId, userId)) {
+            throw new BookingHoldNotFoundException();
+        }
+    }
+
+    public void validateNotHeldByOther(Reservation reservation) {
+        ReservationDate reservationDate = reservation.getReservationDate();
+        boolean held = bookingHoldStore.isHeldByOther(
+            reservation.getRoom().getId(),
+            reservation.getGuest().getId(),
+            reservationDate.getCheckIn(),
+            reservationDate.getCheckOut(),
+            System.currentTimeMillis()
+        );
+        if (held) {
+            throw new BookingHoldConflictException();
+        }
+    }
+
+    public void consume(Reservation reservation) {
+        Long roomId = reservation.getRoom().getId();
+        Long guestId = reservation.getGuest().getId();
+        TransactionCallbacks.afterCommit(() -> bookingHoldStore.releaseByUser(roomId, guestId));
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.hold.sweep-delay:5000}")
+    public void sweepExpiredHolds() {
+        int expired = bookingHoldStore.sweep(System.currentTimeMillis());
+        if (expired > 0) {
+            log.info("[HOLD] swept {} expired booking holds", expired);
+        }
+    }
+
+    private void validateNights(ReservationDate reservationDate) {
+        if (ChronoUnit.DAYS.between(reservationDate.getCheckIn(), reservationDate.getCheckOut()) > maxNights) {
+            throw new ReservationInvalidValueException("한 번에 " + maxNights + "박까지만 홀드할 수 있습니다.");
+        }
+    }
+
+}
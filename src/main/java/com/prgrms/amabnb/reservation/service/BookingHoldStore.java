@@ -0,0 +1,184 @@
+package com.prgrms.amabnb.reservation.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.prgrms.amabnb.reservation.exception.BookingHoldConflictException;
+import com.prgrms.amabnb.reservation.exception.BookingHoldLimitExceededException;
+
+@Component
+public class BookingHoldStore {
+
+    private final int maxActiveHolds;
+    private final int maxRenewals;
+    private final long renewalCooldownMillis;
+    private final Map<Long, List<BookingHold>> holdsByRoom = new HashMap<>();
+    private final Map<Long, List<BookingHold>> holdsByUser = new HashMap<>();
+    private final Map<String, BookingHold> holdsById = new HashMap<>();
+    private final Map<RenewalKey, SpentRenewals> spentRenewals = new HashMap<>();
+    private final PriorityQueue<BookingHold> expiries = new PriorityQueue<>(
+        Comparator.comparingLong(BookingHold::expiresAtMillis));
+
+    public BookingHoldStore(
+        @Value("${reservation.hold.max-active:3}") int maxActiveHolds,
+        @Value("${reservation.hold.max-renewals:2}") int maxRenewals,
+        @Value("${reservation.hold.renewal-cooldown:PT30M}") Duration renewalCooldown
+    ) {
+        this.maxActiveHolds = maxActiveHolds;
+        this.maxRenewals = maxRenewals;
+        this.renewalCooldownMillis = renewalCooldown.toMillis();
+    }
+
+    public synchronized BookingHold hold(
+        Long roomId,
+        Long userId,
+        LocalDate checkIn,
+        LocalDate checkOut,
+        long nowMillis,
+        long ttlMillis
+    ) {
+        if (isHeldByOther(roomId, userId, checkIn, checkOut, nowMillis)) {
+            throw new BookingHoldConflictException();
+        }
+        int renewals = nextRenewals(roomId, userId, nowMillis);
+        releaseByUser(roomId, userId);
+
+        BookingHold hold = new BookingHold(UUID.randomUUID().toString(), roomId, userId, checkIn, checkOut,
+            nowMillis + ttlMillis, renewals);
+        holdsByRoom.computeIfAbsent(roomId, id -> new ArrayList<>()).add(hold);
+        holdsByUser.computeIfAbsent(userId, id -> new ArrayList<>()).add(hold);
+        holdsById.put(hold.id(), hold);
+        expiries.add(hold);
+        return hold;
+    }
+
+    public synchronized boolean isHeldByOther(
+        Long roomId,
+        Long userId,
+        LocalDate checkIn,
+        LocalDate checkOut,
+        long nowMillis
+    ) {
+        List<BookingHold> holds = holdsByRoom.get(roomId);
+        if (holds == null) {
+            return false;
+        }
+        return holds.stream().anyMatch(hold -> hold.isActive(nowMillis)
+            && !hold.userId().equals(userId)
+            && hold.overlaps(checkIn, checkOut));
+    }
+
+    public synchronized boolean release(String holdId, Long userId) {
+        BookingHold hold = holdsById.get(holdId);
+        if (hold == null || !hold.userId().equals(userId)) {
+            return false;
+        }
+        remove(hold);
+        return true;
+    }
+
+    public synchronized void releaseByUser(Long roomId, Long userId) {
+        List<BookingHold> holds = holdsByRoom.get(roomId);
+        if (holds == null) {
+            return;
+        }
+        holds.stream()
+            .filter(hold -> hold.userId().equals(userId))
+            .toList()
+            .forEach(this::remove);
+    }
+
+    public synchronized int sweep(long nowMillis) {
+        int expired = 0;
+        while (!expiries.isEmpty() && !expiries.peek().isActive(nowMillis)) {
+            BookingHold hold = expiries.poll();
+            if (holdsById.get(hold.id()) == hold) {
+                remove(hold);
+                expired++;
+            }
+        }
+        spentRenewals.values().removeIf(spent -> spent.keepUntilMillis() <= nowMillis);
+        return expired;
+    }
+
+    public synchronized int size() {
+        return holdsById.size();
+    }
+
+    public synchronized void clear() {
+        holdsByRoom.clear();
+        holdsByUser.clear();
+        holdsById.clear();
+        expiries.clear();
+        spentRenewals.clear();
+    }
+
+    // holding the same room again renews the hold; a new room counts against the user's active holds.
+    // renewals outlive the hold by the cooldown, so letting a hold expire does not reset them
+    private int nextRenewals(Long roomId, Long userId, long nowMillis) {
+        List<BookingHold> userHolds = holdsByUser.getOrDefault(userId, List.of());
+        boolean renewing = userHolds.stream()
+            .anyMatch(hold -> hold.roomId().equals(roomId) && hold.isActive(nowMillis));
+        if (!renewing) {
+            long active = userHolds.stream().filter(hold -> hold.isActive(nowMillis)).count();
+            if (active >= maxActiveHolds) {
+                throw new BookingHoldLimitExceededException("동시에 " + maxActiveHolds + "개의 숙소까지만 홀드할 수 있습니다.");
+            }
+        }
+        int previous = previousRenewals(roomId, userId, userHolds, nowMillis);
+        if (previous >= maxRenewals) {
+            throw new BookingHoldLimitExceededException("홀드는 " + maxRenewals + "번까지만 연장할 수 있습니다.");
+        }
+        return previous + 1;
+    }
+
+    private int previousRenewals(Long roomId, Long userId, List<BookingHold> userHolds, long nowMillis) {
+        int previous = userHolds.stream()
+            .filter(hold -> hold.roomId().equals(roomId))
+            .mapToInt(BookingHold::renewals)
+            .max()
+            .orElse(-1);
+        SpentRenewals spent = spentRenewals.get(new RenewalKey(userId, roomId));
+        if (spent != null && spent.keepUntilMillis() > nowMillis) {
+            previous = Math.max(previous, spent.renewals());
+        }
+        return previous;
+    }
+
+    private void remove(BookingHold hold) {
+        holdsById.remove(hold.id());
+        removeFrom(holdsByRoom, hold.roomId(), hold);
+        removeFrom(holdsByUser, hold.userId(), hold);
+        spentRenewals.merge(new RenewalKey(hold.userId(), hold.roomId()),
+            new SpentRenewals(hold.renewals(), hold.expiresAtMillis() + renewalCooldownMillis),
+            (kept, removed) -> kept.renewals() >= removed.renewals() ? kept : removed);
+    }
+
+    private void removeFrom(Map<Long, List<BookingHold>> index, Long key, BookingHold hold) {
+        List<BookingHold> holds = index.get(key);
+        if (holds == null) {
+            return;
+        }
+        holds.remove(hold);
+        if (holds.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private record RenewalKey(Long userId, Long roomId) {
+    }
+
+    private record SpentRenewals(int renewals, long keepUntilMillis) {
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.prgrms.amabnb.reservation.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.prgrms.amabnb.reservation.dto.request.HostCalendarRequest;
+import com.prgrms.amabnb.reservation.dto.response.HostCalendarResponse;
+import com.prgrms.amabnb.reservation.dto.response.ReservationCalendarDto;
+import com.prgrms.amabnb.reservation.exception.ReservationInvalidValueException;
+import com.prgrms.amabnb.reservation.repository.ReservationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class HostCalendarService {
+    private static final int MAX_DAYS = 93;
+
+    private final ReservationRepository reservationRepository;
+
+    public HostCalendarResponse getCalendar(Long hostId, HostCalendarRequest request) {
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+        validateWindow(startDate, endDate);
+        int days = (int)ChronoUnit.DAYS.between(startDate, endDate) + 1;
+
+        Map<Long, BitSet> occupancies = new LinkedHashMap<>();
+        Map<Long, List<HostCalendarResponse.Entry>> entries = new LinkedHashMap<>();
+        for (ReservationCalendarDto stay : reservationRepository.findCalendarByHost(hostId, startDate, endDate)) {
+            LocalDate from = stay.getCheckIn().isBefore(startDate) ? startDate : stay.getCheckIn();
+            LocalDate to = stay.getCheckOut().isAfter(endDate) ? endDate.plusDays(1) : stay.getCheckOut();
+            occupancies.computeIfAbsent(stay.getRoomId(), roomId -> new BitSet(days))
+                .set((int)ChronoUnit.DAYS.between(startDate, from), (int)ChronoUnit.DAYS.between(startDate, to));
+            entries.computeIfAbsent(stay.getRoomId(), roomId -> new ArrayList<>())
+                .add(new HostCalendarResponse.Entry(stay.getId(), stay.getReservationStatus(),
+                    stay.getCheckIn(), stay.getCheckOut()));
+        }
+
+        List<HostCalendarResponse.RoomCalendar> rooms = new ArrayList<>(occupancies.size());
+        occupancies.forEach((roomId, occupancy) -> rooms.add(new HostCalendarResponse.RoomCalendar(
+            roomId,
+            Base64.getEncoder().encodeToString(occupancy.toByteArray()),
+            entries.get(roomId)
+        )));
+        return new HostCalendarResponse(startDate, days, rooms);
+    }
+
+    private void validateWindow(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new ReservationInvalidValueException("조회 종료일은 시작일 이후여야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_DAYS) {
+            throw new ReservationInvalidValueException(
+                "캘린더는 최대 " + MAX_DAYS + "일까지 조회할 수 있습니다.");
+        }
+    }
+
+}
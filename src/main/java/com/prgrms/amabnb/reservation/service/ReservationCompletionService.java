@@ -0,0 +1,106 @@
+package com.prgrms.amabnb.reservation.service;
+
+import static com.prgrms.amabnb.reservation.entity.ReservationStatus.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.prgrms.amabnb.reservation.dto.response.ReservationCheckOutDto;
+import com.prgrms.amabnb.reservation.dto.response.ReservationStateDto;
+import com.prgrms.amabnb.reservation.repository.ReservationRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class ReservationCompletionService {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationStatusCountService reservationStatusCountService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Counter completedCounter;
+    private final Counter chunkCounter;
+    private final Timer runTimer;
+    private final AtomicLong lastCompletedCheckOut = new AtomicLong();
+
+    public ReservationCompletionService(
+        ReservationRepository reservationRepository,
+        ReservationStatusCountService reservationStatusCountService,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${reservation.completion.chunk-size:1000}") int chunkSize
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.reservationStatusCountService = reservationStatusCountService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.completedCounter = meterRegistry.counter("reservation.completion.completed");
+        this.chunkCounter = meterRegistry.counter("reservation.completion.chunks");
+        this.runTimer = meterRegistry.timer("reservation.completion.run");
+        meterRegistry.gauge("reservation.completion.last.check.out.epoch.day", lastCompletedCheckOut);
+    }
+
+    @Scheduled(cron = "${reservation.completion.cron:0 0 3 * * *}")
+    public void completeFinishedStays() {
+        complete(LocalDate.now());
+    }
+
+    public int complete(LocalDate today) {
+        long startedAt = System.currentTimeMillis();
+        LocalDate lastCheckOut = LocalDate.EPOCH;
+        Long lastReservationId = 0L;
+        int chunks = 0;
+        int completed = 0;
+        while (true) {
+            List<ReservationCheckOutDto> rows = reservationRepository.findCheckOutsByStatusUntil(
+                APPROVED, today, lastCheckOut, lastReservationId, PageRequest.ofSize(chunkSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<Long> ids = rows.stream().map(ReservationCheckOutDto::getId).toList();
+            int updated = Objects.requireNonNull(transactionTemplate.execute(status -> completeChunk(ids)));
+            ReservationCheckOutDto last = rows.get(rows.size() - 1);
+            lastCheckOut = last.getCheckOut();
+            lastReservationId = last.getId();
+            chunks++;
+            completed += updated;
+            chunkCounter.increment();
+            completedCounter.increment(updated);
+            lastCompletedCheckOut.set(lastCheckOut.toEpochDay());
+            log.info("[COMPLETION] chunk {} completed {}/{} reservations (total {}, last check-out {}, last id {})",
+                chunks, updated, rows.size(), completed, lastCheckOut, lastReservationId);
+            if (rows.size() < chunkSize) {
+                break;
+            }
+        }
+        long elapsed = System.currentTimeMillis() - startedAt;
+        runTimer.record(elapsed, TimeUnit.MILLISECONDS);
+        log.info("[COMPLETION] completed {} reservations in {} chunks, {} ms", completed, chunks, elapsed);
+        return completed;
+    }
+
+    private int completeChunk(List<Long> ids) {
+        List<ReservationStateDto> states = reservationRepository.findStatesByIdIn(ids).stream()
+            .filter(state -> state.getReservationStatus() == APPROVED)
+            .toList();
+        int updated = reservationRepository.changeStatusByIds(ids, APPROVED, COMPLETED, LocalDateTime.now());
+        reservationStatusCountService.recordTransitions(states, COMPLETED);
+        return updated;
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.prgrms.amabnb.reservation.service;
+
+import static com.prgrms.amabnb.reservation.entity.ReservationStatus.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.prgrms.amabnb.common.timer.HierarchicalTimerWheel;
+import com.prgrms.amabnb.common.outbox.OutboxEventPublisher;
+import com.prgrms.amabnb.common.transaction.TransactionCallbacks;
+import com.prgrms.amabnb.reservation.dto.response.PendingReservationDto;
+import com.prgrms.amabnb.reservation.entity.Reservation;
+import com.prgrms.amabnb.reservation.event.ReservationStatusChangedEvent;
+import com.prgrms.amabnb.reservation.repository.ReservationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class ReservationExpiryService {
+
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+    private static final int EXPIRY_BATCH_SIZE = 100;
+    private static final long TICK_MILLIS = 1_000L;
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 4;
+
+    private final ReservationRepository reservationRepository;
+    private final RoomAvailabilityService roomAvailabilityService;
+    private final ReservationStatusCountService reservationStatusCountService;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration approvalDeadline;
+    private final HierarchicalTimerWheel<Long> timerWheel;
+
+    public ReservationExpiryService(
+        ReservationRepository reservationRepository,
+        RoomAvailabilityService roomAvailabilityService,
+        ReservationStatusCountService reservationStatusCountService,
+        OutboxEventPublisher outboxEventPublisher,
+        PlatformTransactionManager transactionManager,
+        @Value("${reservation.approval.deadline:PT24H}") Duration approvalDeadline
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.roomAvailabilityService = roomAvailabilityService;
+        this.reservationStatusCountService = reservationStatusCountService;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.approvalDeadline = approvalDeadline;
+        this.timerWheel = new HierarchicalTimerWheel<>(TICK_MILLIS, WHEEL_SIZE, WHEEL_LEVELS,
+            System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPendingReservations() {
+        Long lastReservationId = 0L;
+        int loaded = 0;
+        List<PendingReservationDto> pendings;
+        do {
+            pendings = reservationRepository.findPendingByStatus(
+                PENDING, lastReservationId, PageRequest.ofSize(LOAD_CHUNK_SIZE));
+            for (PendingReservationDto pending : pendings) {
+                timerWheel.schedule(pending.getId(), deadlineOf(pending.getCreatedAt()));
+                lastReservationId = pending.getId();
+            }
+            loaded += pendings.size();
+        } while (pendings.size() == LOAD_CHUNK_SIZE);
+
+        log.info("[EXPIRY] scheduled {} pending reservations", loaded);
+    }
+
+    public void schedule(Reservation reservation) {
+        Long reservationId = reservation.getId();
+        long deadline = deadlineOf(reservation.getCreatedAt());
+        TransactionCallbacks.afterCommit(() -> timerWheel.schedule(reservationId, deadline));
+    }
+
+    public void unschedule(Reservation reservation) {
+        Long reservationId = reservation.getId();
+        TransactionCallbacks.afterCommit(() -> timerWheel.cancel(reservationId));
+    }
+
+    public void unscheduleAll(List<Long> reservationIds) {
+        List<Long> ids = List.copyOf(reservationIds);
+        TransactionCallbacks.afterCommit(() -> ids.forEach(timerWheel::cancel));
+    }
+
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    public void expireOverdueReservations() {
+        expireOverdue(System.currentTimeMillis());
+    }
+
+    public int expireOverdue(long nowMillis) {
+        List<Long> overdueIds = timerWheel.advance(nowMillis);
+        int expired = 0;
+        for (int from = 0; from < overdueIds.size(); from += EXPIRY_BATCH_SIZE) {
+            List<Long> batch = overdueIds.subList(from, Math.min(from + EXPIRY_BATCH_SIZE, overdueIds.size()));
+            try {
+                expired += Objects.requireNonNull(transactionTemplate.execute(status -> expire(batch)));
+            } catch (OptimisticLockingFailureException e) {
+                log.warn("[EXPIRY] conflict while expiring {} reservations, retrying next tick", batch.size());
+                reschedule(batch, nowMillis);
+            } catch (RuntimeException e) {
+                // the wheel already dropped these ids, so every failure has to put them back
+                log.error("[EXPIRY] failed to expire {} reservations, retrying next tick", batch.size(), e);
+                reschedule(batch, nowMillis);
+            }
+        }
+        if (expired > 0) {
+            log.info("[EXPIRY] expired {} of {} overdue pending reservations", expired, overdueIds.size());
+        }
+        return expired;
+    }
+
+    public void clear() {
+        timerWheel.clear(System.currentTimeMillis());
+    }
+
+    private void reschedule(List<Long> reservationIds, long nowMillis) {
+        reservationIds.forEach(reservationId -> timerWheel.schedule(reservationId, nowMillis));
+    }
+
+    private int expire(List<Long> reservationIds) {
+        int expired = 0;
+        for (Reservation reservation : reservationRepository.findAllById(reservationIds)) {
+            if (reservation.getReservationStatus() != PENDING) {
+                continue;
+            }
+            reservation.changeStatus(HOST_CANCELED);
+            roomAvailabilityService.release(reservation);
+            reservationStatusCountService.recordTransition(reservation, PENDING);
+            outboxEventPublisher.publish(ReservationStatusChangedEvent.from(reservation));
+            expired++;
+        }
+        return expired;
+    }
+
+    private long deadlineOf(LocalDateTime createdAt) {
+        LocalDateTime requestedAt = createdAt == null ? LocalDateTime.now() : createdAt;
+        return requestedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + approvalDeadline.toMillis();
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.prgrms.amabnb.reservation.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.amabnb.reservation.dto.request.ReservationExportFormat;
+import com.prgrms.amabnb.reservation.dto.response.ReservationExportDto;
+import com.prgrms.amabnb.reservation.repository.ReservationRepository;
+import com.prgrms.amabnb.user.exception.UserNotFoundException;
+import com.prgrms.amabnb.user.repository.UserRepository;
+
+@Service
+@Transactional(readOnly = true)
+public class ReservationExportService {
+
+    private static final String CSV_HEADER = "id,checkIn,checkOut,totalGuest,totalPrice,reservationStatus,"
+        + "roomId,roomName,guestId,guestName,guestEmail";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final ReservationRepository reservationRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ReservationExportService(
+        ReservationRepository reservationRepository,
+        UserRepository userRepository,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager,
+        @Value("${reservation.export.chunk-size:1000}") int chunkSize
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    public void validateHost(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException();
+        }
+    }
+
+    // each chunk is read in its own short transaction, so a slow client never holds a connection or snapshot open
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void export(Long userId, ReservationExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ReservationExportFormat.CSV) {
+            writeLine(writer, CSV_HEADER);
+        }
+        Long lastReservationId = 0L;
+        List<ReservationExportDto> rows;
+        do {
+            Long after = lastReservationId;
+            rows = transactionTemplate.execute(status ->
+                reservationRepository.findExportRowsAfter(userId, after, chunkSize));
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+            for (ReservationExportDto row : rows) {
+                writeLine(writer, toLine(format, row));
+            }
+            writer.flush();
+            lastReservationId = rows.get(rows.size() - 1).getId();
+        } while (rows.size() == chunkSize);
+        writer.flush();
+    }
+
+    private String toLine(ReservationExportFormat format, ReservationExportDto row) {
+        if (format == ReservationExportFormat.CSV) {
+            return toCsv(row);
+        }
+        try {
+            return objectMapper.writeValueAsString(row);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toCsv(ReservationExportDto row) {
+        return Stream.of(row.getId(), row.getCheckIn(), row.getCheckOut(), row.getTotalGuest(), row.getTotalPrice(),
+                row.getReservationStatus(), row.getRoomId(), row.getRoomName(), row.getGuestId(), row.getGuestName(),
+                row.getGuestEmail())
+            .map(this::escapeCsv)
+            .collect(Collectors.joining(","));
+    }
+
+    private String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    private void writeLine(Writer writer, String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+    }
+
+}
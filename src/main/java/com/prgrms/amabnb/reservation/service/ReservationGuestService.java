@@ -1,10 +1,17 @@
 package com.prgrms.amabnb.reservation.service;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.prgrms.amabnb.common.exception.ConstraintViolations;
+import com.prgrms.amabnb.common.outbox.OutboxEventPublisher;
+import com.prgrms.amabnb.common.retry.OptimisticLockRetry;
 import com.prgrms.amabnb.common.vo.Money;
 import com.prgrms.amabnb.reservation.dto.request.CreateReservationRequest;
 import com.prgrms.amabnb.reservation.dto.request.ReservationDateRequest;
@@ -16,6 +23,8 @@ import com.prgrms.amabnb.reservation.dto.response.ReservationResponseForGuest;
 import com.prgrms.amabnb.reservation.dto.response.ReservationReviewResponse;
 import com.prgrms.amabnb.reservation.entity.Reservation;
 import com.prgrms.amabnb.reservation.entity.ReservationStatus;
+import com.prgrms.amabnb.reservation.entity.vo.ReservationDate;
+import com.prgrms.amabnb.reservation.event.ReservationStatusChangedEvent;
 import com.prgrms.amabnb.reservation.exception.AlreadyReservationRoomException;
 import com.prgrms.amabnb.reservation.exception.ReservationInvalidValueException;
 import com.prgrms.amabnb.reservation.exception.ReservationNotFoundException;
@@ -24,45 +33,88 @@ import com.prgrms.amabnb.reservation.repository.ReservationRepository;
 import com.prgrms.amabnb.room.entity.Room;
 import com.prgrms.amabnb.room.exception.RoomNotFoundException;
 import com.prgrms.amabnb.room.repository.RoomRepository;
+import com.prgrms.amabnb.room.service.RoomPriceService;
 import com.prgrms.amabnb.user.entity.User;
 import com.prgrms.amabnb.user.exception.UserNotFoundException;
 import com.prgrms.amabnb.user.repository.UserRepository;
 
-import lombok.RequiredArgsConstructor;
-
 @Service
 @Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class ReservationGuestService {
     private final ReservationRepository reservationRepository;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
+    private final RoomAvailabilityService roomAvailabilityService;
+    private final ReservationExpiryService reservationExpiryService;
+    private final ReservationStatusCountService reservationStatusCountService;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final BookingHoldService bookingHoldService;
+    private final RoomPriceService roomPriceService;
+    private final long maxNights;
+
+    public ReservationGuestService(
+        ReservationRepository reservationRepository,
+        RoomRepository roomRepository,
+        UserRepository userRepository,
+        RoomAvailabilityService roomAvailabilityService,
+        ReservationExpiryService reservationExpiryService,
+        ReservationStatusCountService reservationStatusCountService,
+        OutboxEventPublisher outboxEventPublisher,
+        BookingHoldService bookingHoldService,
+        RoomPriceService roomPriceService,
+        @Value("${reservation.max-nights:30}") long maxNights
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.roomRepository = roomRepository;
+        this.userRepository = userRepository;
+        this.roomAvailabilityService = roomAvailabilityService;
+        this.reservationExpiryService = reservationExpiryService;
+        this.reservationStatusCountService = reservationStatusCountService;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.bookingHoldService = bookingHoldService;
+        this.roomPriceService = roomPriceService;
+        this.maxNights = maxNights;
+    }
 
     @Transactional
     public ReservationResponseForGuest createReservation(Long userId, CreateReservationRequest request) {
         Room room = findRoomWithHostById(request.getRoomId());
-        User guest = findUserById(userId);
+        User guest = userRepository.getReferenceById(userId);
         Reservation reservation = request.toEntity(room, guest);
         validateReservation(reservation);
-        return ReservationResponseForGuest.from(reservationRepository.save(reservation));
+        Reservation savedReservation = saveReservation(reservation);
+        roomAvailabilityService.occupy(savedReservation);
+        bookingHoldService.consume(savedReservation);
+        reservationExpiryService.schedule(savedReservation);
+        reservationStatusCountService.recordCreated(savedReservation);
+        outboxEventPublisher.publish(ReservationStatusChangedEvent.from(savedReservation));
+        return ReservationResponseForGuest.from(savedReservation);
     }
 
+    @OptimisticLockRetry
     @Transactional
     public ReservationResponseForGuest modify(Long userId, Long reservationId, ReservationUpdateRequest request) {
-        User guest = findUserById(userId);
         Reservation reservation = findReservationByIdWithRoomAndGuest(reservationId);
-        validateGuest(guest, reservation);
+        validateGuest(userId, reservation);
+        LocalDate previousCheckOut = reservation.getReservationDate().getCheckOut();
         reservation.modify(request.getCheckOut(), request.getTotalGuest(), new Money(request.getPaymentPrice()));
         validateReservation(reservation);
+        // check the version before inserting nights, otherwise a concurrent modify fails on the night unique key
+        reservationRepository.flush();
+        roomAvailabilityService.extend(reservation, previousCheckOut);
         return ReservationResponseForGuest.from(reservation);
     }
 
+    @OptimisticLockRetry
     @Transactional
     public void cancel(Long userId, Long reservationId) {
-        User guest = findUserById(userId);
         Reservation reservation = findReservationByIdWithGuest(reservationId);
-        validateGuest(guest, reservation);
+        validateGuest(userId, reservation);
         reservation.changeStatus(ReservationStatus.GUEST_CANCELED);
+        roomAvailabilityService.release(reservation);
+        reservationExpiryService.unschedule(reservation);
+        reservationStatusCountService.recordTransition(reservation, ReservationStatus.PENDING);
+        outboxEventPublisher.publish(ReservationStatusChangedEvent.from(reservation));
     }
 
     public List<ReservationDateResponse> getReservationDates(Long roomId, ReservationDateRequest request) {
@@ -70,25 +122,26 @@ public class ReservationGuestService {
     }
 
     public ReservationResponseForGuest getReservation(Long userId, Long reservationId) {
-        User guest = findUserById(userId);
         Reservation reservation = findReservationByIdWithRoomAndGuest(reservationId);
-        validateGuest(guest, reservation);
+        validateGuest(userId, reservation);
         return ReservationResponseForGuest.from(reservation);
     }
 
     public List<ReservationResponseForGuest> getReservations(Long userId, SearchReservationsRequest request) {
-        User guest = findUserById(userId);
-        List<ReservationDto> reservations = searchReservationPageByStatus(request, guest);
+        List<ReservationDto> reservations = searchReservationPageByStatus(request, userId);
+        if (reservations.isEmpty()) {
+            validateUserExists(userId);
+        }
         return reservations.stream()
             .map(ReservationResponseForGuest::from)
             .toList();
     }
 
-    private List<ReservationDto> searchReservationPageByStatus(SearchReservationsRequest request, User guest) {
+    private List<ReservationDto> searchReservationPageByStatus(SearchReservationsRequest request, Long guestId) {
         return reservationRepository.findReservationsByGuestAndStatus(
             request.getLastReservationId(),
             request.getPageSize(),
-            guest,
+            guestId,
             request.getStatus()
         );
     }
@@ -100,13 +153,28 @@ public class ReservationGuestService {
     }
 
     private void validateReservation(Reservation reservation) {
+        validateNights(reservation);
         validateRoomPrice(reservation);
         validateMaxGuest(reservation);
+        bookingHoldService.validateNotHeldByOther(reservation);
         validateAlreadyReservedRoom(reservation);
     }
 
+    private void validateNights(Reservation reservation) {
+        ReservationDate reservationDate = reservation.getReservationDate();
+        if (ChronoUnit.DAYS.between(reservationDate.getCheckIn(), reservationDate.getCheckOut()) > maxNights) {
+            throw new ReservationInvalidValueException("한 번에 " + maxNights + "박까지만 예약할 수 있습니다.");
+        }
+    }
+
     private void validateRoomPrice(Reservation reservation) {
-        if (reservation.isNotValidatePrice()) {
+        ReservationDate reservationDate = reservation.getReservationDate();
+        long expectedTotalPrice = roomPriceService.calculateTotalPrice(
+            reservation.getRoom(),
+            reservationDate.getCheckIn(),
+            reservationDate.getCheckOut()
+        );
+        if (reservation.isNotValidatePrice(expectedTotalPrice)) {
             throw new ReservationInvalidValueException("숙소 가격이 일치하지 않습니다.");
         }
     }
@@ -123,8 +191,9 @@ public class ReservationGuestService {
         }
     }
 
-    private void validateGuest(User host, Reservation reservation) {
-        if (reservation.isNotGuest(host)) {
+    private void validateGuest(Long userId, Reservation reservation) {
+        if (reservation.isNotGuest(userId)) {
+            validateUserExists(userId);
             throw new ReservationNotHavePermissionException("해당 예약의 게스트가 아닙니다.");
         }
     }
@@ -134,9 +203,21 @@ public class ReservationGuestService {
             .orElseThrow(RoomNotFoundException::new);
     }
 
-    private User findUserById(Long userId) {
-        return userRepository.findById(userId)
-            .orElseThrow(UserNotFoundException::new);
+    private void validateUserExists(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException();
+        }
+    }
+
+    private Reservation saveReservation(Reservation reservation) {
+        try {
+            return reservationRepository.save(reservation);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, Reservation.GUEST_FOREIGN_KEY)) {
+                throw new UserNotFoundException();
+            }
+            throw e;
+        }
     }
 
     private Reservation findReservationByIdWithGuest(Long reservationId) {
@@ -150,11 +231,7 @@ public class ReservationGuestService {
     }
 
     private boolean isAlreadyReservedRoom(Reservation reservation) {
-        return reservationRepository.existReservationByRoom(
-            reservation.getRoom(),
-            reservation.getId(),
-            reservation.getReservationDate()
-        );
+        return roomAvailabilityService.isReserved(reservation);
     }
 
 }
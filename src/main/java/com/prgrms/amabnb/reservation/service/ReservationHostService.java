@@ -1,20 +1,37 @@
 package com.prgrms.amabnb.reservation.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.prgrms.amabnb.common.outbox.OutboxEventPublisher;
+import com.prgrms.amabnb.common.retry.OptimisticLockRetry;
+import com.prgrms.amabnb.reservation.dto.request.BulkReservationRequest;
+import com.prgrms.amabnb.reservation.dto.request.ReservationInboxCursor;
+import com.prgrms.amabnb.reservation.dto.request.ReservationInboxRequest;
 import com.prgrms.amabnb.reservation.dto.request.SearchReservationsRequest;
+import com.prgrms.amabnb.reservation.dto.response.BulkReservationOutcome;
+import com.prgrms.amabnb.reservation.dto.response.BulkReservationResponse;
 import com.prgrms.amabnb.reservation.dto.response.ReservationDto;
+import com.prgrms.amabnb.reservation.dto.response.ReservationInboxResponse;
 import com.prgrms.amabnb.reservation.dto.response.ReservationInfoResponse;
 import com.prgrms.amabnb.reservation.dto.response.ReservationResponseForHost;
+import com.prgrms.amabnb.reservation.dto.response.ReservationStateDto;
 import com.prgrms.amabnb.reservation.entity.Reservation;
 import com.prgrms.amabnb.reservation.entity.ReservationStatus;
+import com.prgrms.amabnb.reservation.entity.vo.ReservationDate;
+import com.prgrms.amabnb.reservation.event.ReservationAutoRejectedEvent;
+import com.prgrms.amabnb.reservation.event.ReservationStatusChangedEvent;
 import com.prgrms.amabnb.reservation.exception.ReservationNotFoundException;
 import com.prgrms.amabnb.reservation.exception.ReservationNotHavePermissionException;
 import com.prgrms.amabnb.reservation.repository.ReservationRepository;
-import com.prgrms.amabnb.user.entity.User;
 import com.prgrms.amabnb.user.exception.UserNotFoundException;
 import com.prgrms.amabnb.user.repository.UserRepository;
 
@@ -24,59 +41,199 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ReservationHostService {
+    private static final int BULK_UPDATE_SIZE = 100;
+
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
+    private final RoomAvailabilityService roomAvailabilityService;
+    private final ReservationExpiryService reservationExpiryService;
+    private final ReservationStatusCountService reservationStatusCountService;
+    private final OutboxEventPublisher outboxEventPublisher;
 
+    @OptimisticLockRetry
     @Transactional
     public ReservationInfoResponse approve(Long userId, Long reservationId) {
-        User host = findUserById(userId);
         Reservation reservation = findReservationByIdWithRoom(reservationId);
-        validateHost(host, reservation);
+        validateHost(userId, reservation);
         reservation.changeStatus(ReservationStatus.APPROVED);
+        roomAvailabilityService.refresh(reservation);
+        reservationExpiryService.unschedule(reservation);
+        reservationStatusCountService.recordTransition(reservation, ReservationStatus.PENDING);
+        outboxEventPublisher.publish(ReservationStatusChangedEvent.from(reservation));
+        rejectOverlappingPendings(reservation);
         return ReservationInfoResponse.from(reservation);
     }
 
+    @OptimisticLockRetry
     @Transactional
     public void cancelByHost(Long userId, Long reservationId) {
-        User host = findUserById(userId);
         Reservation reservation = findReservationByIdWithRoom(reservationId);
-        validateHost(host, reservation);
+        validateHost(userId, reservation);
         reservation.changeStatus(ReservationStatus.HOST_CANCELED);
+        roomAvailabilityService.release(reservation);
+        reservationExpiryService.unschedule(reservation);
+        reservationStatusCountService.recordTransition(reservation, ReservationStatus.PENDING);
+        outboxEventPublisher.publish(ReservationStatusChangedEvent.from(reservation));
+    }
+
+    @Transactional
+    public BulkReservationResponse changeStatuses(Long userId, BulkReservationRequest request) {
+        List<Long> reservationIds = request.getReservationIds().stream().distinct().toList();
+        Map<Long, ReservationStateDto> states = reservationRepository.findStatesByIdIn(reservationIds).stream()
+            .collect(Collectors.toMap(ReservationStateDto::getId, Function.identity()));
+
+        Map<Long, BulkReservationOutcome> outcomes = new LinkedHashMap<>();
+        Map<Long, Long> roomIdsByTarget = new LinkedHashMap<>();
+        for (Long reservationId : reservationIds) {
+            ReservationStateDto state = states.get(reservationId);
+            BulkReservationOutcome outcome = classify(userId, state);
+            outcomes.put(reservationId, outcome);
+            if (outcome == BulkReservationOutcome.APPLIED) {
+                roomIdsByTarget.put(reservationId, state.getRoomId());
+            }
+        }
+        if (roomIdsByTarget.isEmpty()) {
+            validateUserExists(userId);
+        }
+
+        ReservationStatus status = request.getAction().getStatus();
+        applyInBatches(new ArrayList<>(roomIdsByTarget.keySet()), status, outcomes, roomIdsByTarget);
+        if (status == ReservationStatus.HOST_CANCELED) {
+            roomAvailabilityService.releaseAll(roomIdsByTarget);
+        }
+        reservationExpiryService.unscheduleAll(new ArrayList<>(roomIdsByTarget.keySet()));
+        List<ReservationStateDto> applied = roomIdsByTarget.keySet().stream()
+            .map(states::get)
+            .toList();
+        reservationStatusCountService.recordTransitions(applied, status);
+        applied.forEach(state -> outboxEventPublisher.publish(ReservationStatusChangedEvent.of(state, status)));
+
+        return new BulkReservationResponse(outcomes.entrySet().stream()
+            .map(outcome -> new BulkReservationResponse.Result(outcome.getKey(), outcome.getValue()))
+            .toList());
     }
 
     public ReservationResponseForHost getReservation(Long userId, Long reservationId) {
-        User host = findUserById(userId);
         Reservation reservation = findReservationByIdWithRoomAndGuest(reservationId);
-        validateHost(host, reservation);
+        validateHost(userId, reservation);
         return ReservationResponseForHost.from(reservation);
     }
 
     public List<ReservationResponseForHost> getReservations(Long userId, SearchReservationsRequest request) {
-        User host = findUserById(userId);
-        List<ReservationDto> reservations = searchReservationPageByStatus(request, host);
+        List<ReservationDto> reservations = searchReservationPageByStatus(request, userId);
+        if (reservations.isEmpty()) {
+            validateUserExists(userId);
+        }
         return reservations.stream()
             .map(ReservationResponseForHost::from)
             .toList();
     }
 
-    private List<ReservationDto> searchReservationPageByStatus(SearchReservationsRequest request, User host) {
+    public ReservationInboxResponse getInbox(Long userId, ReservationInboxRequest request) {
+        List<ReservationDto> reservations = reservationRepository.findInboxByHost(
+            userId,
+            request.getStatus(),
+            request.getSort(),
+            request.toCursor(),
+            request.getPageSize() + 1
+        );
+        if (reservations.isEmpty()) {
+            validateUserExists(userId);
+        }
+        boolean hasNext = reservations.size() > request.getPageSize();
+        List<ReservationDto> page = hasNext ? reservations.subList(0, request.getPageSize()) : reservations;
+        String nextCursor = hasNext
+            ? ReservationInboxCursor.after(request.getSort(), page.get(page.size() - 1)).encode()
+            : null;
+        return new ReservationInboxResponse(
+            page.stream().map(ReservationResponseForHost::from).toList(),
+            nextCursor
+        );
+    }
+
+    private List<ReservationDto> searchReservationPageByStatus(SearchReservationsRequest request, Long hostId) {
         return reservationRepository.findReservationsByHostAndStatus(
             request.getLastReservationId(),
             request.getPageSize(),
-            host,
+            hostId,
             request.getStatus()
         );
     }
 
-    private void validateHost(User host, Reservation reservation) {
-        if (reservation.isNotHost(host)) {
+    private void rejectOverlappingPendings(Reservation approved) {
+        ReservationDate reservationDate = approved.getReservationDate();
+        List<ReservationStateDto> overlaps = reservationRepository.findOverlappingByStatus(
+            approved.getRoom().getId(),
+            approved.getId(),
+            ReservationStatus.PENDING,
+            reservationDate.getCheckIn(),
+            reservationDate.getCheckOut()
+        );
+        if (overlaps.isEmpty()) {
+            return;
+        }
+
+        List<Long> overlapIds = overlaps.stream().map(ReservationStateDto::getId).toList();
+        reservationRepository.changeStatusByIds(overlapIds, ReservationStatus.PENDING,
+            ReservationStatus.HOST_CANCELED, LocalDateTime.now());
+        roomAvailabilityService.releaseAll(overlaps.stream()
+            .collect(Collectors.toMap(ReservationStateDto::getId, ReservationStateDto::getRoomId)));
+        reservationExpiryService.unscheduleAll(overlapIds);
+        reservationStatusCountService.recordTransitions(overlaps, ReservationStatus.HOST_CANCELED);
+        overlaps.forEach(overlap -> {
+            outboxEventPublisher.publish(
+                ReservationStatusChangedEvent.of(overlap, ReservationStatus.HOST_CANCELED));
+            outboxEventPublisher.publish(new ReservationAutoRejectedEvent(
+                overlap.getId(), overlap.getRoomId(), overlap.getGuestId(), approved.getId()));
+        });
+    }
+
+    private BulkReservationOutcome classify(Long userId, ReservationStateDto state) {
+        if (state == null) {
+            return BulkReservationOutcome.NOT_FOUND;
+        }
+        if (!userId.equals(state.getHostId())) {
+            return BulkReservationOutcome.FORBIDDEN;
+        }
+        if (state.getReservationStatus() != ReservationStatus.PENDING) {
+            return BulkReservationOutcome.INVALID_STATUS;
+        }
+        return BulkReservationOutcome.APPLIED;
+    }
+
+    private void applyInBatches(
+        List<Long> targetIds,
+        ReservationStatus status,
+        Map<Long, BulkReservationOutcome> outcomes,
+        Map<Long, Long> roomIdsByTarget
+    ) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < targetIds.size(); from += BULK_UPDATE_SIZE) {
+            List<Long> batch = targetIds.subList(from, Math.min(from + BULK_UPDATE_SIZE, targetIds.size()));
+            int updated = reservationRepository.changeStatusByIds(batch, ReservationStatus.PENDING, status, now);
+            if (updated == batch.size()) {
+                continue;
+            }
+            for (ReservationStateDto state : reservationRepository.findStatesByIdIn(batch)) {
+                if (state.getReservationStatus() != status) {
+                    outcomes.put(state.getId(), BulkReservationOutcome.INVALID_STATUS);
+                    roomIdsByTarget.remove(state.getId());
+                }
+            }
+        }
+    }
+
+    private void validateHost(Long userId, Reservation reservation) {
+        if (reservation.isNotHost(userId)) {
+            validateUserExists(userId);
             throw new ReservationNotHavePermissionException("해당 예약의 호스트가 아닙니다.");
         }
     }
 
-    private User findUserById(Long userId) {
-        return userRepository.findById(userId)
-            .orElseThrow(UserNotFoundException::new);
+    private void validateUserExists(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException();
+        }
     }
 
     private Reservation findReservationByIdWithRoom(Long reservationId) {
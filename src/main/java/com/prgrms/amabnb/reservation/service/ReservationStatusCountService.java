@@ -0,0 +1,259 @@
+package com.prgrms.amabnb.reservation.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.prgrms.amabnb.reservation.dto.response.ReservationCountResponse;
+import com.prgrms.amabnb.reservation.dto.response.ReservationStateDto;
+import com.prgrms.amabnb.reservation.entity.Reservation;
+import com.prgrms.amabnb.reservation.entity.ReservationRole;
+import com.prgrms.amabnb.reservation.entity.ReservationStatus;
+import com.prgrms.amabnb.reservation.entity.ReservationStatusCount;
+import com.prgrms.amabnb.reservation.repository.ReservationRepository;
+import com.prgrms.amabnb.reservation.repository.ReservationStatusCountRepository;
+import com.prgrms.amabnb.user.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class ReservationStatusCountService {
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+    private static final long COUNTERS_PER_USER =
+        (long)ReservationRole.values().length * ReservationStatus.values().length;
+    // same order as the FOR UPDATE read in reconcile: enums are stored by name
+    private static final Comparator<CounterKey> COUNTER_ORDER = Comparator.comparing(CounterKey::userId)
+        .thenComparing(key -> key.role().name())
+        .thenComparing(key -> key.status().name());
+
+    private final ReservationStatusCountRepository reservationStatusCountRepository;
+    private final ReservationRepository reservationRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReservationStatusCountService(
+        ReservationStatusCountRepository reservationStatusCountRepository,
+        ReservationRepository reservationRepository,
+        UserRepository userRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.reservationStatusCountRepository = reservationStatusCountRepository;
+        this.reservationRepository = reservationRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationCountResponse getCounts(Long userId) {
+        Map<ReservationStatus, Long> asGuest = emptyCounts();
+        Map<ReservationStatus, Long> asHost = emptyCounts();
+        for (ReservationStatusCount count : reservationStatusCountRepository.findByUserId(userId)) {
+            Map<ReservationStatus, Long> counts = count.getRole() == ReservationRole.GUEST ? asGuest : asHost;
+            counts.put(count.getReservationStatus(), count.getCount());
+        }
+        return new ReservationCountResponse(asGuest, asHost);
+    }
+
+    @Transactional
+    public void recordCreated(Reservation reservation) {
+        Map<CounterKey, Long> deltas = new LinkedHashMap<>();
+        addDelta(deltas, reservation.getGuest().getId(), ReservationRole.GUEST, reservation.getReservationStatus(), 1);
+        addDelta(deltas, reservation.getHostId(), ReservationRole.HOST, reservation.getReservationStatus(), 1);
+        apply(deltas);
+    }
+
+    @Transactional
+    public void recordTransition(Reservation reservation, ReservationStatus from) {
+        Map<CounterKey, Long> deltas = new LinkedHashMap<>();
+        addTransition(deltas, reservation.getGuest().getId(), reservation.getHostId(), from,
+            reservation.getReservationStatus());
+        apply(deltas);
+    }
+
+    @Transactional
+    public void recordTransitions(Collection<ReservationStateDto> states, ReservationStatus to) {
+        Map<CounterKey, Long> deltas = new LinkedHashMap<>();
+        for (ReservationStateDto state : states) {
+            addTransition(deltas, state.getGuestId(), state.getHostId(), state.getReservationStatus(), to);
+        }
+        apply(deltas);
+    }
+
+    @Scheduled(cron = "${reservation.count.reconcile-cron:0 30 4 * * *}")
+    public void reconcileAll() {
+        Long lastUserId = 0L;
+        int corrected = 0;
+        List<Long> userIds;
+        do {
+            userIds = userRepository.findIdsAfter(lastUserId, PageRequest.ofSize(RECONCILE_CHUNK_SIZE));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            List<Long> chunk = userIds;
+            try {
+                transactionTemplate.executeWithoutResult(status -> createMissingCounters(chunk));
+                corrected += Objects.requireNonNull(transactionTemplate.execute(status -> reconcile(chunk)));
+            } catch (DataAccessException e) {
+                log.warn("[COUNT] failed to reconcile users {} ~ {}", chunk.get(0), chunk.get(chunk.size() - 1), e);
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+        } while (userIds.size() == RECONCILE_CHUNK_SIZE);
+
+        log.info("[COUNT] reconciled reservation status counters, {} corrected", corrected);
+    }
+
+    private int reconcile(List<Long> userIds) {
+        // lock the counters before the first plain read so the counts below see every commit that touched them
+        Map<CounterKey, ReservationStatusCount> stored = reservationStatusCountRepository
+            .findByUserIdInForUpdate(userIds)
+            .stream()
+            .collect(Collectors.toMap(
+                count -> new CounterKey(count.getUserId(), count.getRole(), count.getReservationStatus()),
+                Function.identity()
+            ));
+
+        Map<CounterKey, Long> actualCounts = new HashMap<>();
+        reservationRepository.countByGuestIdIn(userIds).forEach(count -> actualCounts.put(
+            new CounterKey(count.getUserId(), ReservationRole.GUEST, count.getReservationStatus()), count.getCount()));
+        reservationRepository.countByHostIdIn(userIds).forEach(count -> actualCounts.put(
+            new CounterKey(count.getUserId(), ReservationRole.HOST, count.getReservationStatus()), count.getCount()));
+
+        int corrected = 0;
+        for (Map.Entry<CounterKey, ReservationStatusCount> entry : stored.entrySet()) {
+            long actual = actualCounts.getOrDefault(entry.getKey(), 0L);
+            if (entry.getValue().getCount() != actual) {
+                entry.getValue().correct(actual);
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    private void apply(Map<CounterKey, Long> deltas) {
+        Map<CounterKey, Long> pending = pendingDeltas();
+        deltas.forEach((key, delta) -> pending.merge(key, delta, Long::sum));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<CounterKey, Long> pendingDeltas() {
+        Map<CounterKey, Long> pending = (Map<CounterKey, Long>)TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Map<CounterKey, Long> created = new TreeMap<>(COUNTER_ORDER);
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                flush(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReservationStatusCountService.this);
+            }
+        });
+        return created;
+    }
+
+    // counter rows are written right before commit and in a fixed order, so a busy host's rows are only
+    // locked for the commit itself and two bookings with swapped guest/host roles cannot deadlock
+    private void flush(Map<CounterKey, Long> pending) {
+        createMissingCounters(pending.keySet().stream().map(CounterKey::userId).collect(Collectors.toSet()));
+        pending.forEach((key, delta) -> {
+            if (delta != 0) {
+                reservationStatusCountRepository.increase(key.userId(), key.role(), key.status(), delta);
+            }
+        });
+    }
+
+    private void createMissingCounters(Collection<Long> userIds) {
+        Set<Long> initialized = Set.copyOf(
+            reservationStatusCountRepository.findUserIdsWithCounters(userIds, COUNTERS_PER_USER));
+        userIds.stream()
+            .filter(userId -> !initialized.contains(userId))
+            .sorted()
+            .forEach(this::createCounters);
+    }
+
+    private void createCounters(Long userId) {
+        if (userRepository.findByIdForUpdate(userId).isEmpty()) {
+            return;
+        }
+        Set<CounterKey> existing = reservationStatusCountRepository.findByUserIdInForUpdate(List.of(userId))
+            .stream()
+            .map(count -> new CounterKey(count.getUserId(), count.getRole(), count.getReservationStatus()))
+            .collect(Collectors.toSet());
+        List<ReservationStatusCount> missing = new ArrayList<>();
+        for (ReservationRole role : ReservationRole.values()) {
+            for (ReservationStatus status : ReservationStatus.values()) {
+                if (!existing.contains(new CounterKey(userId, role, status))) {
+                    missing.add(new ReservationStatusCount(userId, role, status, 0L));
+                }
+            }
+        }
+        reservationStatusCountRepository.saveAllAndFlush(missing);
+    }
+
+    private void addTransition(
+        Map<CounterKey, Long> deltas,
+        Long guestId,
+        Long hostId,
+        ReservationStatus from,
+        ReservationStatus to
+    ) {
+        if (from == to) {
+            return;
+        }
+        addDelta(deltas, guestId, ReservationRole.GUEST, from, -1);
+        addDelta(deltas, guestId, ReservationRole.GUEST, to, 1);
+        addDelta(deltas, hostId, ReservationRole.HOST, from, -1);
+        addDelta(deltas, hostId, ReservationRole.HOST, to, 1);
+    }
+
+    private void addDelta(
+        Map<CounterKey, Long> deltas,
+        Long userId,
+        ReservationRole role,
+        ReservationStatus status,
+        long delta
+    ) {
+        if (userId == null) {
+            return;
+        }
+        deltas.merge(new CounterKey(userId, role, status), delta, Long::sum);
+    }
+
+    private Map<ReservationStatus, Long> emptyCounts() {
+        Map<ReservationStatus, Long> counts = new EnumMap<>(ReservationStatus.class);
+        Arrays.stream(ReservationStatus.values()).forEach(status -> counts.put(status, 0L));
+        return counts;
+    }
+
+    private record CounterKey(Long userId, ReservationRole role, ReservationStatus status) {
+    }
+
+}
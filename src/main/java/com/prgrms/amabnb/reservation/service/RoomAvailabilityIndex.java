@@ -0,0 +1,153 @@
+package com.prgrms.amabnb.reservation.service;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoomAvailabilityIndex {
+
+    private final Map<Long, RoomNights> roomNights = new ConcurrentHashMap<>();
+    private volatile boolean warm;
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    public void warmUp() {
+        this.warm = true;
+    }
+
+    public boolean isReserved(Long roomId, Long excludedReservationId, LocalDate checkIn, LocalDate checkOut) {
+        RoomNights nights = roomNights.get(roomId);
+        if (nights == null) {
+            return false;
+        }
+        return nights.isReserved(checkIn.toEpochDay(), checkOut.toEpochDay(), excludedReservationId);
+    }
+
+    public void reserve(Long roomId, Long reservationId, LocalDate checkIn, LocalDate checkOut) {
+        roomNights.computeIfAbsent(roomId, id -> new RoomNights(LocalDate.now().toEpochDay()))
+            .reserve(reservationId, checkIn.toEpochDay(), checkOut.toEpochDay());
+    }
+
+    public void release(Long roomId, Long reservationId) {
+        RoomNights nights = roomNights.get(roomId);
+        if (nights != null) {
+            nights.release(reservationId);
+        }
+    }
+
+    // drops stays that have checked out and moves every room's first bit to today
+    public int prune(LocalDate today) {
+        long todayDay = today.toEpochDay();
+        int pruned = 0;
+        for (Long roomId : roomNights.keySet()) {
+            int[] removed = new int[1];
+            roomNights.computeIfPresent(roomId, (id, nights) -> {
+                removed[0] = nights.prune(todayDay);
+                return nights.isEmpty() ? null : nights;
+            });
+            pruned += removed[0];
+        }
+        return pruned;
+    }
+
+    public int size() {
+        return roomNights.values().stream()
+            .mapToInt(RoomNights::size)
+            .sum();
+    }
+
+    public void clear() {
+        roomNights.clear();
+    }
+
+    private static class RoomNights {
+
+        private final BitSet nights = new BitSet();
+        private final Map<Long, Stay> stays = new HashMap<>();
+        private long baseDay;
+
+        RoomNights(long baseDay) {
+            this.baseDay = baseDay;
+        }
+
+        synchronized boolean isReserved(long checkIn, long checkOut, Long excludedReservationId) {
+            Stay excluded = excludedReservationId == null ? null : stays.get(excludedReservationId);
+            int to = toIndex(checkOut);
+            int night = nights.nextSetBit(toIndex(checkIn));
+            while (night != -1 && night < to) {
+                if (excluded == null || !covers(excluded, night)) {
+                    return true;
+                }
+                night = nights.nextSetBit(toIndex(excluded.to()));
+            }
+            return false;
+        }
+
+        synchronized void reserve(Long reservationId, long from, long to) {
+            Stay previous = stays.put(reservationId, new Stay(from, to));
+            if (previous != null) {
+                refill(previous);
+            }
+            set(from, to);
+        }
+
+        synchronized void release(Long reservationId) {
+            Stay released = stays.remove(reservationId);
+            if (released != null) {
+                refill(released);
+            }
+        }
+
+        synchronized int prune(long today) {
+            int before = stays.size();
+            stays.values().removeIf(stay -> stay.to() <= today);
+            baseDay = today;
+            nights.clear();
+            stays.values().forEach(stay -> set(stay.from(), stay.to()));
+            return before - stays.size();
+        }
+
+        synchronized boolean isEmpty() {
+            return stays.isEmpty();
+        }
+
+        synchronized int size() {
+            return stays.size();
+        }
+
+        private void refill(Stay cleared) {
+            nights.clear(toIndex(cleared.from()), toIndex(cleared.to()));
+            stays.values().stream()
+                .filter(stay -> stay.overlaps(cleared))
+                .forEach(stay -> set(stay.from(), stay.to()));
+        }
+
+        private void set(long from, long to) {
+            nights.set(toIndex(from), toIndex(to));
+        }
+
+        private boolean covers(Stay stay, int night) {
+            return toIndex(stay.from()) <= night && night < toIndex(stay.to());
+        }
+
+        // nights before the base day all fold into bit 0
+        private int toIndex(long day) {
+            return (int)Math.max(0L, day - baseDay);
+        }
+    }
+
+    private record Stay(long from, long to) {
+
+        boolean overlaps(Stay other) {
+            return from < other.to && other.from < to;
+        }
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.prgrms.amabnb.reservation.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.prgrms.amabnb.common.exception.ConstraintViolations;
+import com.prgrms.amabnb.common.index.IndexLoadBuffer;
+import com.prgrms.amabnb.common.transaction.TransactionCallbacks;
+import com.prgrms.amabnb.reservation.dto.response.ReservationStayDto;
+import com.prgrms.amabnb.reservation.entity.Reservation;
+import com.prgrms.amabnb.reservation.entity.ReservationNight;
+import com.prgrms.amabnb.reservation.entity.vo.ReservationDate;
+import com.prgrms.amabnb.reservation.exception.AlreadyReservationRoomException;
+import com.prgrms.amabnb.reservation.repository.ReservationNightRepository;
+import com.prgrms.amabnb.reservation.repository.ReservationRepository;
+import com.prgrms.amabnb.room.entity.Room;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomAvailabilityService {
+
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationNightRepository reservationNightRepository;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+    private final RoomCalendarCache roomCalendarCache;
+    private final RoomIcsCache roomIcsCache;
+    private final IndexLoadBuffer indexLoadBuffer = new IndexLoadBuffer();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        indexLoadBuffer.startLoading();
+        LocalDate today = LocalDate.now();
+        Long lastReservationId = null;
+        int loaded = 0;
+        List<ReservationStayDto> stays;
+        do {
+            stays = reservationRepository.findActiveStaysAfter(lastReservationId, today, LOAD_CHUNK_SIZE);
+            for (ReservationStayDto stay : stays) {
+                roomAvailabilityIndex.reserve(stay.getRoomId(), stay.getId(), stay.getCheckIn(), stay.getCheckOut());
+                lastReservationId = stay.getId();
+            }
+            loaded += stays.size();
+        } while (stays.size() == LOAD_CHUNK_SIZE);
+
+        indexLoadBuffer.finishLoading(roomAvailabilityIndex::warmUp);
+        log.info("[AVAILABILITY] loaded {} reservations into room availability index", loaded);
+    }
+
+    public boolean isReserved(Reservation reservation) {
+        return isReserved(reservation.getRoom(), reservation.getId(), reservation.getReservationDate());
+    }
+
+    public boolean isReserved(Room room, ReservationDate reservationDate) {
+        return isReserved(room, null, reservationDate);
+    }
+
+    public void occupy(Reservation reservation) {
+        ReservationDate reservationDate = reservation.getReservationDate();
+        saveNights(ReservationNight.of(reservation, reservationDate.getCheckIn(), reservationDate.getCheckOut()));
+        refresh(reservation);
+    }
+
+    public void extend(Reservation reservation, LocalDate previousCheckOut) {
+        LocalDate checkOut = reservation.getReservationDate().getCheckOut();
+        saveNights(ReservationNight.of(reservation, previousCheckOut, checkOut));
+        refresh(reservation);
+    }
+
+    public void refresh(Reservation reservation) {
+        Long roomId = reservation.getRoom().getId();
+        Long reservationId = reservation.getId();
+        LocalDate checkIn = reservation.getReservationDate().getCheckIn();
+        LocalDate checkOut = reservation.getReservationDate().getCheckOut();
+        TransactionCallbacks.afterCommit(() -> {
+            indexLoadBuffer.apply(() -> roomAvailabilityIndex.reserve(roomId, reservationId, checkIn, checkOut));
+            roomCalendarCache.evict(roomId);
+            roomIcsCache.evict(roomId);
+        });
+    }
+
+    public void release(Reservation reservation) {
+        Long roomId = reservation.getRoom().getId();
+        Long reservationId = reservation.getId();
+        reservationNightRepository.deleteByReservationId(reservationId);
+        TransactionCallbacks.afterCommit(() -> {
+            indexLoadBuffer.apply(() -> roomAvailabilityIndex.release(roomId, reservationId));
+            roomCalendarCache.evict(roomId);
+            roomIcsCache.evict(roomId);
+        });
+    }
+
+    public void releaseAll(Map<Long, Long> roomIdsByReservationId) {
+        reservationNightRepository.deleteByReservationIdIn(roomIdsByReservationId.keySet());
+        TransactionCallbacks.afterCommit(() -> roomIdsByReservationId.forEach((reservationId, roomId) -> {
+            indexLoadBuffer.apply(() -> roomAvailabilityIndex.release(roomId, reservationId));
+            roomCalendarCache.evict(roomId);
+            roomIcsCache.evict(roomId);
+        }));
+    }
+
+    // checked-out stays can never conflict again, so they are dropped instead of living until restart
+    @Scheduled(cron = "${reservation.availability.prune-cron:0 10 0 * * *}")
+    public void pruneCheckedOutStays() {
+        indexLoadBuffer.apply(() -> {
+            int pruned = roomAvailabilityIndex.prune(LocalDate.now());
+            log.info("[AVAILABILITY] pruned {} checked-out stays, {} stays left", pruned, roomAvailabilityIndex.size());
+        });
+    }
+
+    private boolean isReserved(Room room, Long reservationId, ReservationDate reservationDate) {
+        if (roomAvailabilityIndex.isWarm()) {
+            return roomAvailabilityIndex.isReserved(
+                room.getId(),
+                reservationId,
+                reservationDate.getCheckIn(),
+                reservationDate.getCheckOut()
+            );
+        }
+        return reservationRepository.existReservationByRoom(room, reservationId, reservationDate);
+    }
+
+    private void saveNights(List<ReservationNight> nights) {
+        try {
+            reservationNightRepository.saveAllAndFlush(nights);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, ReservationNight.ROOM_NIGHT_UNIQUE_KEY)) {
+                throw new AlreadyReservationRoomException();
+            }
+            throw e;
+        }
+    }
+
+}
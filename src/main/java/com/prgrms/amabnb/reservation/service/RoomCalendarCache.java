@@ -0,0 +1,50 @@
+package com.prgrms.amabnb.reservation.service;
+
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.prgrms.amabnb.reservation.dto.response.RoomAvailabilityResponse;
+
+@Component
+public class RoomCalendarCache {
+
+    private static final int MAX_ROOMS = 10_000;
+
+    private final Map<Long, Map<YearMonth, RoomAvailabilityResponse>> calendars = new ConcurrentHashMap<>();
+
+    public RoomAvailabilityResponse get(Long roomId, YearMonth month, Supplier<RoomAvailabilityResponse> loader) {
+        if (calendars.size() >= MAX_ROOMS && !calendars.containsKey(roomId)) {
+            calendars.clear();
+        }
+        Map<YearMonth, RoomAvailabilityResponse> months = calendars.computeIfAbsent(roomId,
+            id -> new ConcurrentHashMap<>());
+        RoomAvailabilityResponse cached = months.get(month);
+        if (cached != null) {
+            return cached;
+        }
+        RoomAvailabilityResponse loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            if (months.isEmpty()) {
+                calendars.remove(roomId, months);
+            }
+            throw e;
+        }
+        months.putIfAbsent(month, loaded);
+        return loaded;
+    }
+
+    public void evict(Long roomId) {
+        calendars.remove(roomId);
+    }
+
+    public void clear() {
+        calendars.clear();
+    }
+
+}
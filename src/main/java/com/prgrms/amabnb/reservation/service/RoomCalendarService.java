@@ -0,0 +1,58 @@
+package com.prgrms.amabnb.reservation.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.BitSet;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.prgrms.amabnb.reservation.dto.response.ReservationDateResponse;
+import com.prgrms.amabnb.reservation.dto.response.RoomAvailabilityResponse;
+import com.prgrms.amabnb.reservation.exception.ReservationInvalidValueException;
+import com.prgrms.amabnb.reservation.repository.ReservationRepository;
+import com.prgrms.amabnb.room.exception.RoomNotFoundException;
+import com.prgrms.amabnb.room.repository.RoomRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class RoomCalendarService {
+    private static final long PAST_MONTHS = 1;
+    private static final long FUTURE_MONTHS = 24;
+
+    private final ReservationRepository reservationRepository;
+    private final RoomRepository roomRepository;
+    private final RoomCalendarCache roomCalendarCache;
+
+    public RoomAvailabilityResponse getMonthAvailability(Long roomId, YearMonth month) {
+        validateMonth(month);
+        return roomCalendarCache.get(roomId, month, () -> loadMonthAvailability(roomId, month));
+    }
+
+    private void validateMonth(YearMonth month) {
+        YearMonth now = YearMonth.now();
+        if (month.isBefore(now.minusMonths(PAST_MONTHS)) || month.isAfter(now.plusMonths(FUTURE_MONTHS))) {
+            throw new ReservationInvalidValueException(
+                "조회할 수 없는 달입니다. 지난달부터 " + FUTURE_MONTHS + "개월 뒤까지 조회할 수 있습니다.");
+        }
+    }
+
+    private RoomAvailabilityResponse loadMonthAvailability(Long roomId, YearMonth month) {
+        if (!roomRepository.existsById(roomId)) {
+            throw new RoomNotFoundException();
+        }
+        LocalDate firstDay = month.atDay(1);
+        LocalDate lastDay = month.atEndOfMonth();
+        BitSet blockedNights = new BitSet(month.lengthOfMonth());
+        for (ReservationDateResponse stay : reservationRepository.findReservationDates(roomId, firstDay, lastDay)) {
+            LocalDate from = stay.getCheckIn().isBefore(firstDay) ? firstDay : stay.getCheckIn();
+            LocalDate to = stay.getCheckOut().isAfter(lastDay) ? lastDay : stay.getCheckOut();
+            blockedNights.set(from.getDayOfMonth() - 1, to.getDayOfMonth());
+        }
+        return RoomAvailabilityResponse.of(month, blockedNights);
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.prgrms.amabnb.reservation.service;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoomIcsCache {
+
+    private static final int MAX_TOKENS = 10_000;
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+    private final Map<String, Long> roomIdsByToken = new ConcurrentHashMap<>();
+    private long tokenGeneration;
+
+    // unknown tokens make the loader throw, so only issued tokens are ever cached
+    public Long getRoomId(String token, Supplier<Long> loader) {
+        Long cached = roomIdsByToken.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = currentTokenGeneration();
+        Long loaded = loader.get();
+        synchronized (this) {
+            // a token revoked while loading must not be cached again
+            if (generation == tokenGeneration) {
+                if (roomIdsByToken.size() >= MAX_TOKENS) {
+                    roomIdsByToken.clear();
+                }
+                roomIdsByToken.put(token, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void evictToken(String token) {
+        tokenGeneration++;
+        roomIdsByToken.remove(token);
+    }
+
+    public RoomIcsFeed get(Long roomId, LocalDate today, Supplier<RoomIcsFeed> loader) {
+        Slot slot = slots.computeIfAbsent(roomId, id -> new Slot());
+        RoomIcsFeed cached = slot.feed;
+        if (cached != null && cached.renderedOn().equals(today)) {
+            return cached;
+        }
+        RoomIcsFeed loaded = loader.get();
+        // evict() detaches the slot, so a feed rendered before a reservation change never replaces a newer one
+        slot.feed = loaded;
+        return loaded;
+    }
+
+    public void evict(Long roomId) {
+        slots.remove(roomId);
+    }
+
+    public synchronized void clear() {
+        slots.clear();
+        roomIdsByToken.clear();
+        tokenGeneration++;
+    }
+
+    private synchronized long currentTokenGeneration() {
+        return tokenGeneration;
+    }
+
+    private static class Slot {
+        private volatile RoomIcsFeed feed;
+    }
+
+}
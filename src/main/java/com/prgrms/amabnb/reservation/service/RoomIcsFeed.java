@@ -0,0 +1,6 @@
+package com.prgrms.amabnb.reservation.service;
+
+import java.time.LocalDate;
+
+public record RoomIcsFeed(String etag, byte[] body, LocalDate renderedOn) {
+}
@@ -0,0 +1,82 @@
+package com.prgrms.amabnb.reservation.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import com.prgrms.amabnb.common.transaction.TransactionCallbacks;
+import com.prgrms.amabnb.reservation.dto.response.ReservationDateResponse;
+import com.prgrms.amabnb.reservation.dto.response.RoomIcsFeedUrlResponse;
+import com.prgrms.amabnb.reservation.repository.ReservationRepository;
+import com.prgrms.amabnb.room.entity.Room;
+import com.prgrms.amabnb.room.exception.RoomNotFoundException;
+import com.prgrms.amabnb.room.repository.RoomRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class RoomIcsService {
+    private static final int FEED_DAYS = 365;
+    private static final String CRLF = "\r\n";
+    private static final int TOKEN_BYTES = 24;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final ReservationRepository reservationRepository;
+    private final RoomRepository roomRepository;
+    private final RoomIcsCache roomIcsCache;
+
+    public RoomIcsFeed getFeed(String token) {
+        Long roomId = roomIcsCache.getRoomId(token,
+            () -> roomRepository.findIdByIcsToken(token).orElseThrow(RoomNotFoundException::new));
+        LocalDate today = LocalDate.now();
+        return roomIcsCache.get(roomId, today, () -> render(roomId, today));
+    }
+
+    @Transactional
+    public RoomIcsFeedUrlResponse issueFeedUrl(Long hostId, Long roomId) {
+        Room room = roomRepository.findRoomByIdAndHostId(roomId, hostId).orElseThrow(RoomNotFoundException::new);
+        byte[] secret = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(secret);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+        String previousToken = room.getIcsToken();
+        room.changeIcsToken(token);
+        if (previousToken != null) {
+            TransactionCallbacks.afterCommit(() -> roomIcsCache.evictToken(previousToken));
+        }
+        return new RoomIcsFeedUrlResponse("/rooms/ics/" + token + ".ics");
+    }
+
+    private RoomIcsFeed render(Long roomId, LocalDate today) {
+        String stamp = today.format(DateTimeFormatter.BASIC_ISO_DATE) + "T000000Z";
+        StringBuilder ics = new StringBuilder()
+            .append("BEGIN:VCALENDAR").append(CRLF)
+            .append("VERSION:2.0").append(CRLF)
+            .append("PRODID:-//amabnb//room calendar//KO").append(CRLF)
+            .append("CALSCALE:GREGORIAN").append(CRLF);
+        for (ReservationDateResponse stay : reservationRepository.findReservationDates(roomId, today,
+            today.plusDays(FEED_DAYS))) {
+            String checkIn = stay.getCheckIn().format(DateTimeFormatter.BASIC_ISO_DATE);
+            ics.append("BEGIN:VEVENT").append(CRLF)
+                .append("UID:room-").append(roomId).append('-').append(checkIn).append("@amabnb").append(CRLF)
+                .append("DTSTAMP:").append(stamp).append(CRLF)
+                .append("DTSTART;VALUE=DATE:").append(checkIn).append(CRLF)
+                .append("DTEND;VALUE=DATE:")
+                .append(stay.getCheckOut().plusDays(1).format(DateTimeFormatter.BASIC_ISO_DATE)).append(CRLF)
+                .append("SUMMARY:Not available").append(CRLF)
+                .append("END:VEVENT").append(CRLF);
+        }
+        ics.append("END:VCALENDAR").append(CRLF);
+
+        byte[] body = ics.toString().getBytes(StandardCharsets.UTF_8);
+        return new RoomIcsFeed("\"" + DigestUtils.md5DigestAsHex(body) + "\"", body, today);
+    }
+
+}
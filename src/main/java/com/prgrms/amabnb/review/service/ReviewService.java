@@ -14,6 +14,8 @@ import com.prgrms.amabnb.review.exception.ReviewNoPermissionException;
 import com.prgrms.amabnb.review.exception.ReviewNotFoundException;
 import com.prgrms.amabnb.review.exception.ReviewNotValidStatusException;
 import com.prgrms.amabnb.review.repository.ReviewRepository;
+import com.prgrms.amabnb.room.repository.RoomRepository;
+import com.prgrms.amabnb.room.service.RoomSearchIndexService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,6 +27,10 @@ public class ReviewService {
 
     private final ReservationGuestService reservationGuestService;
 
+    private final RoomRepository roomRepository;
+
+    private final RoomSearchIndexService roomSearchIndexService;
+
     @Transactional
     public Long createReview(Long userId, Long reservationId, CreateReviewRequest dto) {
         var reservationDto = reservationGuestService.findById(reservationId);
@@ -35,6 +41,8 @@ public class ReviewService {
         var reservation = new Reservation(reservationId);
         var review = new Review(dto.getContent(), dto.getScore(), reservation);
         var savedReview = reviewRepository.save(review);
+        roomRepository.applyReviewScore(reservationDto.getRoomId(), 1, dto.getScore());
+        roomSearchIndexService.refresh(reservationDto.getRoomId());
         return savedReview.getId();
     }
 
@@ -47,6 +55,8 @@ public class ReviewService {
         validateUserPermission(userId, reservationDto.getGuestId());
 
         reviewRepository.deleteById(reviewId);
+        roomRepository.applyReviewScore(reservationDto.getRoomId(), -1, -review.getScore());
+        roomSearchIndexService.refresh(reservationDto.getRoomId());
     }
 
     private void validateOneReservationOneReview(Long reservationId) {
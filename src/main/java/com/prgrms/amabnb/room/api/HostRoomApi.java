@@ -1,24 +1,30 @@
 package com.prgrms.amabnb.room.api;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 
 import javax.validation.Valid;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.prgrms.amabnb.room.dto.request.ChangeRoomPriceRequest;
 import com.prgrms.amabnb.room.dto.request.CreateRoomRequest;
 import com.prgrms.amabnb.room.dto.request.ModifyRoomRequest;
 import com.prgrms.amabnb.room.dto.response.RoomResponse;
 import com.prgrms.amabnb.room.service.HostRoomService;
+import com.prgrms.amabnb.room.service.RoomPriceService;
 import com.prgrms.amabnb.security.jwt.JwtAuthentication;
 
 import lombok.RequiredArgsConstructor;
@@ -29,6 +35,7 @@ import lombok.RequiredArgsConstructor;
 public class HostRoomApi {
 
     private final HostRoomService hostRoomService;
+    private final RoomPriceService roomPriceService;
 
     @PostMapping
     public ResponseEntity<Void> createRoom(
@@ -49,6 +56,27 @@ public class HostRoomApi {
         return ResponseEntity.ok().build();
     }
 
+    @PutMapping("/{roomId}/prices")
+    public ResponseEntity<Void> changePrices(
+        @PathVariable Long roomId,
+        @Valid @RequestBody ChangeRoomPriceRequest changeRoomPriceRequest,
+        @AuthenticationPrincipal JwtAuthentication host
+    ) {
+        roomPriceService.changePrices(host.id(), roomId, changeRoomPriceRequest);
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping("/{roomId}/prices")
+    public ResponseEntity<Void> resetPrices(
+        @PathVariable Long roomId,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+        @AuthenticationPrincipal JwtAuthentication host
+    ) {
+        roomPriceService.resetPrices(host.id(), roomId, startDate, endDate);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping
     public ResponseEntity<List<RoomResponse>> getRoomsForHost(
         @AuthenticationPrincipal JwtAuthentication host
@@ -1,18 +1,22 @@
 package com.prgrms.amabnb.room.api;
 
-import java.util.List;
+import java.time.LocalDate;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.prgrms.amabnb.room.dto.request.PageRoomRequest;
+import com.prgrms.amabnb.room.dto.request.RoomSearchPageRequest;
 import com.prgrms.amabnb.room.dto.request.SearchRoomFilterCondition;
+import com.prgrms.amabnb.room.dto.response.RoomQuoteResponse;
 import com.prgrms.amabnb.room.dto.response.RoomResponse;
-import com.prgrms.amabnb.room.dto.response.RoomSearchResponse;
+import com.prgrms.amabnb.room.dto.response.RoomSearchPageResponse;
 import com.prgrms.amabnb.room.service.GuestRoomService;
+import com.prgrms.amabnb.room.service.RoomPriceService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,19 +26,29 @@ import lombok.RequiredArgsConstructor;
 public class RoomApi {
 
     private final GuestRoomService guestRoomService;
+    private final RoomPriceService roomPriceService;
 
     @GetMapping
-    public ResponseEntity<List<RoomSearchResponse>> getRooms(
+    public ResponseEntity<RoomSearchPageResponse> getRooms(
         SearchRoomFilterCondition searchRoomFilterCondition,
-        PageRoomRequest pageRoomRequest
+        RoomSearchPageRequest roomSearchPageRequest
     ) {
 
-        List<RoomSearchResponse> roomResponses = guestRoomService.searchRoomsByFilterCondition(
-            searchRoomFilterCondition, pageRoomRequest.of());
+        RoomSearchPageResponse roomResponses = guestRoomService.searchRoomsByFilterCondition(
+            searchRoomFilterCondition, roomSearchPageRequest);
 
         return ResponseEntity.ok(roomResponses);
     }
 
+    @GetMapping("/{roomId}/quote")
+    public ResponseEntity<RoomQuoteResponse> getQuote(
+        @PathVariable Long roomId,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut
+    ) {
+        return ResponseEntity.ok(roomPriceService.quote(roomId, checkIn, checkOut));
+    }
+
     @GetMapping("/{roomId}")
     public ResponseEntity<RoomResponse> getRoomDetail(@PathVariable Long roomId) {
         RoomResponse roomResponse = guestRoomService.searchRoomDetail(roomId);
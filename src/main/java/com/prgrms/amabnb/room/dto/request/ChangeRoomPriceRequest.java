@@ -0,0 +1,33 @@
+package com.prgrms.amabnb.room.dto.request;
+
+import java.time.LocalDate;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ChangeRoomPriceRequest {
+
+    @NotNull
+    private LocalDate startDate;
+
+    @NotNull
+    private LocalDate endDate;
+
+    @Max(value = 10000000)
+    @Positive
+    private int price;
+
+    @Builder
+    public ChangeRoomPriceRequest(LocalDate startDate, LocalDate endDate, int price) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.price = price;
+    }
+}
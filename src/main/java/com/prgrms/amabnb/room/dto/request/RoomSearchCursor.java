@@ -0,0 +1,62 @@
+package com.prgrms.amabnb.room.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.prgrms.amabnb.room.dto.response.RoomSearchResponse;
+import com.prgrms.amabnb.room.exception.RoomInvalidValueException;
+
+import lombok.Getter;
+
+@Getter
+public class RoomSearchCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final RoomSearchSort sort;
+    private final int price;
+    private final double reviewScore;
+    private final double relevance;
+    private final Long roomId;
+
+    public RoomSearchCursor(RoomSearchSort sort, int price, double reviewScore, Long roomId) {
+        this(sort, price, reviewScore, 0.0, roomId);
+    }
+
+    public RoomSearchCursor(RoomSearchSort sort, int price, double reviewScore, double relevance, Long roomId) {
+        this.sort = sort;
+        this.price = price;
+        this.reviewScore = reviewScore;
+        this.relevance = relevance;
+        this.roomId = roomId;
+    }
+
+    public static RoomSearchCursor after(RoomSearchSort sort, RoomSearchResponse room) {
+        return new RoomSearchCursor(sort, room.getPrice(), room.getReviewScore(), room.getRelevance(), room.getId());
+    }
+
+    public static RoomSearchCursor decode(String cursor, RoomSearchSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split("\\" + DELIMITER);
+            RoomSearchSort cursorSort = RoomSearchSort.valueOf(values[0]);
+            if (cursorSort != sort) {
+                throw new IllegalArgumentException();
+            }
+            return new RoomSearchCursor(cursorSort, Integer.parseInt(values[1]), Double.parseDouble(values[2]),
+                Double.parseDouble(values[3]), Long.valueOf(values[4]));
+        } catch (RuntimeException e) {
+            throw new RoomInvalidValueException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String value = sort.name() + DELIMITER + price + DELIMITER + reviewScore + DELIMITER + relevance
+            + DELIMITER + roomId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.prgrms.amabnb.room.dto.request;
+
+import lombok.Getter;
+
+@Getter
+public class RoomSearchPageRequest {
+
+    private static final int DEFAULT_SIZE = 10;
+    private static final int MIN_SIZE = 1;
+    private static final int MAX_SIZE = 50;
+
+    private int size;
+    private RoomSearchSort sort;
+    private String cursor;
+    private boolean facets;
+
+    public RoomSearchPageRequest(int size, RoomSearchSort sort, String cursor, boolean facets) {
+        this.size = checkSize(size);
+        this.sort = sort;
+        this.cursor = cursor;
+        this.facets = facets;
+    }
+
+    public RoomSearchSort resolveSort(boolean hasKeyword) {
+        if (sort != null) {
+            return sort;
+        }
+        return hasKeyword ? RoomSearchSort.RELEVANCE : RoomSearchSort.NEWEST;
+    }
+
+    public RoomSearchCursor toCursor(RoomSearchSort resolvedSort) {
+        return RoomSearchCursor.decode(cursor, resolvedSort);
+    }
+
+    private int checkSize(int size) {
+        if (size > MAX_SIZE || size < MIN_SIZE) {
+            return DEFAULT_SIZE;
+        }
+        return size;
+    }
+
+}
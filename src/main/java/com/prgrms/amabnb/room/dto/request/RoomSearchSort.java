@@ -0,0 +1,5 @@
+package com.prgrms.amabnb.room.dto.request;
+
+public enum RoomSearchSort {
+    NEWEST, PRICE_ASC, PRICE_DESC, REVIEW_SCORE, RELEVANCE
+}
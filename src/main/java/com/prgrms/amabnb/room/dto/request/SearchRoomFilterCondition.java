@@ -1,6 +1,10 @@
 package com.prgrms.amabnb.room.dto.request;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
+
+import org.springframework.format.annotation.DateTimeFormat;
 
 import com.prgrms.amabnb.room.entity.RoomScope;
 import com.prgrms.amabnb.room.entity.RoomType;
@@ -14,21 +18,43 @@ public class SearchRoomFilterCondition {
     private Integer minBeds;
     private Integer minBedrooms;
     private Integer minBathrooms;
+    private Integer guests;
     private Integer minPrice;
     private Integer maxPrice;
     private List<RoomType> roomTypes;
     private List<RoomScope> roomScopes;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+    private String keyword;
 
     @Builder
-    public SearchRoomFilterCondition(Integer minBeds, Integer minBedrooms, Integer minBathrooms, Integer minPrice,
-        Integer maxPrice, List<RoomType> roomTypes, List<RoomScope> roomScopes) {
+    public SearchRoomFilterCondition(Integer minBeds, Integer minBedrooms, Integer minBathrooms, Integer guests,
+        Integer minPrice, Integer maxPrice, List<RoomType> roomTypes, List<RoomScope> roomScopes,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut, String keyword) {
         this.minBeds = minBeds;
         this.minBedrooms = minBedrooms;
         this.minBathrooms = minBathrooms;
+        this.guests = guests;
         this.minPrice = minPrice;
         this.maxPrice = maxPrice;
         this.roomTypes = roomTypes;
         this.roomScopes = roomScopes;
+        this.checkIn = checkIn;
+        this.checkOut = checkOut;
+        this.keyword = keyword;
+    }
+
+    public boolean hasStayDates() {
+        return Objects.nonNull(checkIn) || Objects.nonNull(checkOut);
+    }
+
+    public boolean hasKeyword() {
+        return Objects.nonNull(keyword) && !keyword.isBlank();
+    }
+
+    public boolean isValidStayDates() {
+        return Objects.nonNull(checkIn) && Objects.nonNull(checkOut) && checkIn.isBefore(checkOut);
     }
 }
 
@@ -0,0 +1,16 @@
+package com.prgrms.amabnb.room.dto.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class NightlyPriceSumDto {
+    private long totalPrice;
+    private long nights;
+
+    public NightlyPriceSumDto(Long totalPrice, Long nights) {
+        this.totalPrice = totalPrice == null ? 0L : totalPrice;
+        this.nights = nights == null ? 0L : nights;
+    }
+}
@@ -0,0 +1,120 @@
+package com.prgrms.amabnb.room.dto.response;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.prgrms.amabnb.room.entity.RoomScope;
+import com.prgrms.amabnb.room.entity.RoomType;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class RoomFacetResponse {
+
+    public static final int PRICE_BUCKET_WIDTH = 10_000;
+
+    private long total;
+    private Map<RoomType, Long> roomTypes;
+    private Map<RoomScope, Long> roomScopes;
+    private List<CountBucket> beds;
+    private List<CountBucket> bathrooms;
+    private List<PriceBucket> prices;
+
+    public static Counter counter() {
+        return new Counter();
+    }
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor
+    public static class CountBucket {
+        // rooms with at least this many beds or bathrooms
+        private int atLeast;
+        private long count;
+    }
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor
+    public static class PriceBucket {
+        private int from;
+        // null for the last, open-ended bucket
+        private Integer to;
+        private long count;
+    }
+
+    public static class Counter {
+
+        private static final int MAX_COUNT_BUCKET = 5;
+        private static final int PRICE_BUCKETS = 50;
+        private static final RoomType[] ROOM_TYPES = RoomType.values();
+        private static final RoomScope[] ROOM_SCOPES = RoomScope.values();
+
+        private final long[] roomTypes = new long[ROOM_TYPES.length];
+        private final long[] roomScopes = new long[ROOM_SCOPES.length];
+        private final long[] beds = new long[MAX_COUNT_BUCKET + 1];
+        private final long[] bathrooms = new long[MAX_COUNT_BUCKET + 1];
+        private final long[] prices = new long[PRICE_BUCKETS];
+        private long total;
+
+        private Counter() {
+        }
+
+        public void add(RoomType roomType, RoomScope roomScope, int bedCnt, int bathRoomCnt, int price, long count) {
+            total += count;
+            roomTypes[roomType.ordinal()] += count;
+            roomScopes[roomScope.ordinal()] += count;
+            beds[Math.min(bedCnt, MAX_COUNT_BUCKET)] += count;
+            bathrooms[Math.min(bathRoomCnt, MAX_COUNT_BUCKET)] += count;
+            prices[Math.min(price / PRICE_BUCKET_WIDTH, PRICE_BUCKETS - 1)] += count;
+        }
+
+        public RoomFacetResponse toResponse() {
+            Map<RoomType, Long> roomTypeCounts = new EnumMap<>(RoomType.class);
+            for (RoomType roomType : ROOM_TYPES) {
+                roomTypeCounts.put(roomType, roomTypes[roomType.ordinal()]);
+            }
+            Map<RoomScope, Long> roomScopeCounts = new EnumMap<>(RoomScope.class);
+            for (RoomScope roomScope : ROOM_SCOPES) {
+                roomScopeCounts.put(roomScope, roomScopes[roomScope.ordinal()]);
+            }
+            return new RoomFacetResponse(total, roomTypeCounts, roomScopeCounts, atLeast(beds), atLeast(bathrooms),
+                histogram());
+        }
+
+        private List<CountBucket> atLeast(long[] counts) {
+            List<CountBucket> buckets = new ArrayList<>(MAX_COUNT_BUCKET);
+            long count = 0;
+            for (int i = MAX_COUNT_BUCKET; i >= 1; i--) {
+                count += counts[i];
+                buckets.add(0, new CountBucket(i, count));
+            }
+            return buckets;
+        }
+
+        private List<PriceBucket> histogram() {
+            int first = 0;
+            while (first < PRICE_BUCKETS && prices[first] == 0) {
+                first++;
+            }
+            int last = PRICE_BUCKETS - 1;
+            while (last > first && prices[last] == 0) {
+                last--;
+            }
+            List<PriceBucket> buckets = new ArrayList<>();
+            for (int i = first; i <= last; i++) {
+                Integer to = i == PRICE_BUCKETS - 1 ? null : (i + 1) * PRICE_BUCKET_WIDTH;
+                buckets.add(new PriceBucket(i * PRICE_BUCKET_WIDTH, to, prices[i]));
+            }
+            return buckets;
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.prgrms.amabnb.room.dto.response;
+
+import com.prgrms.amabnb.room.entity.Room;
+import com.prgrms.amabnb.room.entity.RoomScope;
+import com.prgrms.amabnb.room.entity.RoomType;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class RoomIndexDto {
+    private Long id;
+    private String name;
+    private String description;
+    private int price;
+    private int bedCnt;
+    private int bedRoomCnt;
+    private int bathRoomCnt;
+    private int maxGuestNum;
+    private RoomType roomType;
+    private RoomScope roomScope;
+    private double reviewScore;
+
+    public RoomIndexDto(Long id, String name, String description, int price, int bedCnt, int bedRoomCnt,
+        int bathRoomCnt, int maxGuestNum, RoomType roomType, RoomScope roomScope, double reviewScore) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.bedCnt = bedCnt;
+        this.bedRoomCnt = bedRoomCnt;
+        this.bathRoomCnt = bathRoomCnt;
+        this.maxGuestNum = maxGuestNum;
+        this.roomType = roomType;
+        this.roomScope = roomScope;
+        this.reviewScore = reviewScore;
+    }
+
+    public static RoomIndexDto from(Room room) {
+        return new RoomIndexDto(
+            room.getId(),
+            room.getName(),
+            room.getDescription(),
+            room.getPrice().getValue(),
+            room.getRoomOption().getBedCnt(),
+            room.getRoomOption().getBedRoomCnt(),
+            room.getRoomOption().getBathRoomCnt(),
+            room.getMaxGuestNum(),
+            room.getRoomType(),
+            room.getRoomScope(),
+            room.getReviewScore()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.prgrms.amabnb.room.dto.response;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomQuoteResponse {
+
+    private Long roomId;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+    private int nights;
+    private long totalPrice;
+
+}
@@ -0,0 +1,23 @@
+package com.prgrms.amabnb.room.dto.response;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomSearchPageResponse {
+    private List<RoomSearchResponse> rooms;
+    private String nextCursor;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private RoomFacetResponse facets;
+
+    public RoomSearchPageResponse(List<RoomSearchResponse> rooms, String nextCursor) {
+        this(rooms, nextCursor, null);
+    }
+}
@@ -2,16 +2,29 @@ package com.prgrms.amabnb.room.dto.response;
 
 import java.util.List;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
-@AllArgsConstructor
 public class RoomSearchResponse {
     private Long id;
     private String name;
     private int price;
+    private double reviewScore;
+    private double relevance;
     private List<String> imagePaths;
+
+    public RoomSearchResponse(Long id, String name, int price, double reviewScore, List<String> imagePaths) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.reviewScore = reviewScore;
+        this.imagePaths = imagePaths;
+    }
+
+    public RoomSearchResponse withRelevance(double relevance) {
+        this.relevance = relevance;
+        return this;
+    }
 }
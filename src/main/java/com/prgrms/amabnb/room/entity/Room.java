@@ -12,13 +12,17 @@ import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
+import javax.persistence.ForeignKey;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import javax.persistence.Version;
 
 import com.prgrms.amabnb.common.model.BaseEntity;
 import com.prgrms.amabnb.common.vo.Money;
@@ -36,8 +40,13 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    @Index(name = "idx_room_price_id", columnList = "price, id"),
+    @Index(name = "idx_room_review_score_id", columnList = "review_score, id")
+})
 public class Room extends BaseEntity {
 
+    public static final String HOST_FOREIGN_KEY = "fk_room_host";
     private static final int MAX_NAME_LENGTH = 255;
 
     @Id
@@ -73,6 +82,7 @@ public class Room extends BaseEntity {
     private RoomScope roomScope;
 
     @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(foreignKey = @ForeignKey(name = HOST_FOREIGN_KEY))
     private User host;
 
     @OneToMany
@@ -82,6 +92,21 @@ public class Room extends BaseEntity {
     @OneToMany(mappedBy = "room", cascade = CascadeType.PERSIST, orphanRemoval = true)
     private List<RoomImage> roomImages = new ArrayList<>();
 
+    @Column(nullable = false)
+    private double reviewScore;
+
+    @Column(nullable = false)
+    private int reviewCount;
+
+    @Column(nullable = false)
+    private long reviewScoreSum;
+
+    @Column(unique = true, length = 64)
+    private String icsToken;
+
+    @Version
+    private Long version;
+
     @Builder
     public Room(Long id, String name, Money price, String description, int maxGuestNum,
         RoomAddress address, RoomOption roomOption, RoomType roomType, RoomScope roomScope,
@@ -112,8 +137,8 @@ public class Room extends BaseEntity {
         this.getRoomImages().add(roomImage);
     }
 
-    public boolean isValidatePrice(Money totalPrice, int period) {
-        return totalPrice.equals(price.multiply(period));
+    public void changeIcsToken(String icsToken) {
+        this.icsToken = icsToken;
     }
 
     public boolean isOverMaxGuestNum(int totalGuest) {
@@ -132,8 +157,8 @@ public class Room extends BaseEntity {
         isPresentRoomScope(roomScope);
     }
 
-    public boolean isHost(User user) {
-        return this.host.isSame(user);
+    public boolean isHost(Long userId) {
+        return this.host.getId().equals(userId);
     }
 
     private void validateName(String name) {
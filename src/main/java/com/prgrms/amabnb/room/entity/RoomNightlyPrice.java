@@ -0,0 +1,54 @@
+package com.prgrms.amabnb.room.entity;
+
+import java.time.LocalDate;
+
+import javax.persistence.AttributeOverride;
+import javax.persistence.Column;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import com.prgrms.amabnb.common.vo.Money;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(
+    name = "uk_room_nightly_price_room_stay_date",
+    columnNames = {"room_id", "stay_date"}
+))
+public class RoomNightlyPrice {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "stay_date", nullable = false)
+    private LocalDate stayDate;
+
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "price", nullable = false))
+    private Money price;
+
+    public RoomNightlyPrice(Long roomId, LocalDate stayDate, Money price) {
+        this.roomId = roomId;
+        this.stayDate = stayDate;
+        this.price = price;
+    }
+
+    public void changePrice(Money price) {
+        this.price = price;
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.prgrms.amabnb.room.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.prgrms.amabnb.common.exception.BusinessException;
+
+public class RoomSearchNotReadyException extends BusinessException {
+
+    private static final String MESSAGE = "검색어 색인을 준비하고 있습니다. 잠시 후 다시 시도해 주세요.";
+
+    public RoomSearchNotReadyException() {
+        super(HttpStatus.SERVICE_UNAVAILABLE, MESSAGE);
+    }
+}
@@ -1,18 +1,37 @@
 package com.prgrms.amabnb.room.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
-import org.springframework.data.domain.Pageable;
-
+import com.prgrms.amabnb.room.dto.request.RoomSearchCursor;
+import com.prgrms.amabnb.room.dto.request.RoomSearchSort;
 import com.prgrms.amabnb.room.dto.request.SearchRoomFilterCondition;
+import com.prgrms.amabnb.room.dto.response.RoomFacetResponse;
+import com.prgrms.amabnb.room.dto.response.RoomIndexDto;
 import com.prgrms.amabnb.room.dto.response.RoomSearchResponse;
 import com.prgrms.amabnb.room.entity.Room;
 
 public interface QueryRoomRepository {
 
-    List<RoomSearchResponse> findRoomsByFilterCondition(SearchRoomFilterCondition searchRoomFilterCondition,
-        Pageable pageable);
+    List<RoomSearchResponse> findRoomsByFilterCondition(
+        SearchRoomFilterCondition searchRoomFilterCondition,
+        RoomSearchSort sort,
+        RoomSearchCursor cursor,
+        int limit
+    );
+
+    RoomFacetResponse findFacetsByFilterCondition(SearchRoomFilterCondition searchRoomFilterCondition);
+
+    List<RoomSearchResponse> findRoomsByIdIn(List<Long> roomIds);
+
+    Set<Long> findAvailableRoomIds(Collection<Long> roomIds, LocalDate checkIn, LocalDate checkOut);
+
+    List<RoomIndexDto> findIndexRowsAfter(Long lastRoomId, int limit);
+
+    Optional<RoomIndexDto> findIndexRowById(Long roomId);
 
     List<Room> findRoomsByHostId(Long userId);
 
@@ -1,23 +1,41 @@
 package com.prgrms.amabnb.room.repository;
 
+import static com.prgrms.amabnb.reservation.entity.QReservationNight.*;
 import static com.prgrms.amabnb.room.entity.QRoom.*;
 import static com.prgrms.amabnb.room.entity.QRoomImage.*;
 import static com.querydsl.core.group.GroupBy.*;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import com.prgrms.amabnb.room.dto.request.RoomSearchCursor;
+import com.prgrms.amabnb.room.dto.request.RoomSearchSort;
 import com.prgrms.amabnb.room.dto.request.SearchRoomFilterCondition;
+import com.prgrms.amabnb.room.dto.response.RoomFacetResponse;
+import com.prgrms.amabnb.room.dto.response.RoomIndexDto;
 import com.prgrms.amabnb.room.dto.response.RoomSearchResponse;
 import com.prgrms.amabnb.room.entity.Room;
 import com.prgrms.amabnb.room.entity.RoomScope;
 import com.prgrms.amabnb.room.entity.RoomType;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -26,39 +44,120 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class QueryRoomRepositoryImpl implements QueryRoomRepository {
 
+    private static final int IN_CHUNK_SIZE = 1_000;
+
     private final JPAQueryFactory jpaQueryFactory;
 
     @Override
     public List<RoomSearchResponse> findRoomsByFilterCondition(
         SearchRoomFilterCondition filterCondition,
-        Pageable pageable
+        RoomSearchSort sort,
+        RoomSearchCursor cursor,
+        int limit
     ) {
+        List<Tuple> rooms = jpaQueryFactory.select(room.id, room.name, room.price.value, room.reviewScore)
+            .from(room)
+            .where(filterBy(filterCondition))
+            .where(afterCursor(sort, cursor))
+            .orderBy(searchOrder(sort))
+            .limit(limit)
+            .fetch();
+        if (rooms.isEmpty()) {
+            return List.of();
+        }
 
-        return jpaQueryFactory.from(room)
-            .innerJoin(roomImage)
-            .on(room.id.eq(roomImage.room.id))
-            .where(
-                bedsGoe(filterCondition.getMinBeds()),
-                bedroomsGoe(filterCondition.getMinBedrooms()),
-                bathroomsGoe(filterCondition.getMinBathrooms()),
-                priceGoe(filterCondition.getMinPrice()),
-                priceLoe(filterCondition.getMaxPrice()),
-                roomTypeEq(filterCondition.getRoomTypes()),
-                roomScopesEq(filterCondition.getRoomScopes())
-            )
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
-            .transform(
-                groupBy(room.id).list(
-                    Projections.fields(RoomSearchResponse.class,
-                        room.id,
-                        room.name,
-                        room.price.value.as("price"),
-                        list(roomImage.imagePath).as("imagePaths")
-                    )
+        Map<Long, List<String>> imagePaths = findImagePaths(rooms.stream().map(row -> row.get(room.id)).toList());
+        return rooms.stream()
+            .map(row -> new RoomSearchResponse(
+                row.get(room.id),
+                row.get(room.name),
+                row.get(room.price.value),
+                row.get(room.reviewScore),
+                imagePaths.getOrDefault(row.get(room.id), List.of())
+            ))
+            .toList();
+    }
+
+    @Override
+    public RoomFacetResponse findFacetsByFilterCondition(SearchRoomFilterCondition filterCondition) {
+        // lower bound of the price bucket; mod keeps it an integer on both H2 and MySQL, where / is decimal
+        NumberExpression<Integer> priceBucket = Expressions.numberTemplate(Integer.class,
+            "{0} - mod({0}, " + RoomFacetResponse.PRICE_BUCKET_WIDTH + ")", room.price.value);
+        NumberExpression<Long> count = room.count();
+        List<Tuple> groups = jpaQueryFactory.select(room.roomType, room.roomScope, room.roomOption.bedCnt,
+                room.roomOption.bathRoomCnt, priceBucket, count)
+            .from(room)
+            .where(filterBy(filterCondition))
+            .groupBy(room.roomType, room.roomScope, room.roomOption.bedCnt, room.roomOption.bathRoomCnt,
+                priceBucket)
+            .fetch();
+
+        RoomFacetResponse.Counter counter = RoomFacetResponse.counter();
+        groups.forEach(group -> counter.add(
+            group.get(room.roomType),
+            group.get(room.roomScope),
+            group.get(room.roomOption.bedCnt),
+            group.get(room.roomOption.bathRoomCnt),
+            group.get(priceBucket),
+            group.get(count)
+        ));
+        return counter.toResponse();
+    }
+
+    @Override
+    public List<RoomSearchResponse> findRoomsByIdIn(List<Long> roomIds) {
+        Map<Long, Tuple> rooms = jpaQueryFactory.select(room.id, room.name, room.price.value, room.reviewScore)
+            .from(room)
+            .where(room.id.in(roomIds))
+            .fetch()
+            .stream()
+            .collect(Collectors.toMap(row -> row.get(room.id), Function.identity()));
+        Map<Long, List<String>> imagePaths = findImagePaths(roomIds);
+        return roomIds.stream()
+            .filter(rooms::containsKey)
+            .map(rooms::get)
+            .map(row -> new RoomSearchResponse(
+                row.get(room.id),
+                row.get(room.name),
+                row.get(room.price.value),
+                row.get(room.reviewScore),
+                imagePaths.getOrDefault(row.get(room.id), List.of())
+            ))
+            .toList();
+    }
+
+    @Override
+    public Set<Long> findAvailableRoomIds(Collection<Long> roomIds, LocalDate checkIn, LocalDate checkOut) {
+        List<Long> ids = List.copyOf(roomIds);
+        Set<Long> available = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            available.addAll(jpaQueryFactory.select(room.id)
+                .from(room)
+                .where(
+                    room.id.in(ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()))),
+                    availableBetween(checkIn, checkOut)
                 )
-            );
+                .fetch());
+        }
+        return available;
+    }
+
+    @Override
+    public List<RoomIndexDto> findIndexRowsAfter(Long lastRoomId, int limit) {
+        return jpaQueryFactory.select(toRoomIndexDto())
+            .from(room)
+            .where(gtRoomId(lastRoomId))
+            .orderBy(room.id.asc())
+            .limit(limit)
+            .fetch();
+    }
 
+    @Override
+    public Optional<RoomIndexDto> findIndexRowById(Long roomId) {
+        return Optional.ofNullable(jpaQueryFactory.select(toRoomIndexDto())
+            .from(room)
+            .where(room.id.eq(roomId))
+            .fetchOne());
     }
 
     @Override
@@ -96,6 +195,84 @@ public class QueryRoomRepositoryImpl implements QueryRoomRepository {
             .fetchOne());
     }
 
+    private ConstructorExpression<RoomIndexDto> toRoomIndexDto() {
+        return Projections.constructor(RoomIndexDto.class,
+            room.id,
+            room.name,
+            room.description,
+            room.price.value,
+            room.roomOption.bedCnt,
+            room.roomOption.bedRoomCnt,
+            room.roomOption.bathRoomCnt,
+            room.maxGuestNum,
+            room.roomType,
+            room.roomScope,
+            room.reviewScore);
+    }
+
+    private Predicate[] filterBy(SearchRoomFilterCondition filterCondition) {
+        return new Predicate[] {
+            bedsGoe(filterCondition.getMinBeds()),
+            bedroomsGoe(filterCondition.getMinBedrooms()),
+            bathroomsGoe(filterCondition.getMinBathrooms()),
+            maxGuestNumGoe(filterCondition.getGuests()),
+            priceGoe(filterCondition.getMinPrice()),
+            priceLoe(filterCondition.getMaxPrice()),
+            roomTypeEq(filterCondition.getRoomTypes()),
+            roomScopesEq(filterCondition.getRoomScopes()),
+            availableBetween(filterCondition.getCheckIn(), filterCondition.getCheckOut())
+        };
+    }
+
+    private BooleanExpression afterCursor(RoomSearchSort sort, RoomSearchCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return switch (sort) {
+            case PRICE_ASC -> room.price.value.gt(cursor.getPrice())
+                .or(room.price.value.eq(cursor.getPrice()).and(room.id.gt(cursor.getRoomId())));
+            case PRICE_DESC -> room.price.value.lt(cursor.getPrice())
+                .or(room.price.value.eq(cursor.getPrice()).and(room.id.lt(cursor.getRoomId())));
+            case REVIEW_SCORE -> room.reviewScore.lt(cursor.getReviewScore())
+                .or(room.reviewScore.eq(cursor.getReviewScore()).and(room.id.lt(cursor.getRoomId())));
+            case NEWEST, RELEVANCE -> room.id.lt(cursor.getRoomId());
+        };
+    }
+
+    private OrderSpecifier<?>[] searchOrder(RoomSearchSort sort) {
+        return switch (sort) {
+            case PRICE_ASC -> new OrderSpecifier<?>[] {room.price.value.asc(), room.id.asc()};
+            case PRICE_DESC -> new OrderSpecifier<?>[] {room.price.value.desc(), room.id.desc()};
+            case REVIEW_SCORE -> new OrderSpecifier<?>[] {room.reviewScore.desc(), room.id.desc()};
+            case NEWEST, RELEVANCE -> new OrderSpecifier<?>[] {room.id.desc()};
+        };
+    }
+
+    private Map<Long, List<String>> findImagePaths(List<Long> roomIds) {
+        return jpaQueryFactory.from(roomImage)
+            .where(roomImage.room.id.in(roomIds))
+            .orderBy(roomImage.id.asc())
+            .transform(groupBy(roomImage.room.id).as(list(roomImage.imagePath)));
+    }
+
+    private BooleanExpression availableBetween(LocalDate checkIn, LocalDate checkOut) {
+        if (Objects.isNull(checkIn) || Objects.isNull(checkOut)) {
+            return null;
+        }
+        return JPAExpressions.selectOne()
+            .from(reservationNight)
+            .where(
+                reservationNight.roomId.eq(room.id),
+                reservationNight.night.goe(checkIn),
+                reservationNight.night.lt(checkOut)
+            )
+            .notExists();
+    }
+
+    private BooleanExpression gtRoomId(Long lastRoomId) {
+        return Objects.isNull(lastRoomId) ? null : room.id.gt(lastRoomId);
+    }
+
     private BooleanExpression roomScopesEq(List<RoomScope> roomScopes) {
         return Objects.isNull(roomScopes) ? null : room.roomScope.in(roomScopes);
     }
@@ -116,8 +293,12 @@ public class QueryRoomRepositoryImpl implements QueryRoomRepository {
         return Objects.isNull(minBathrooms) ? null : room.roomOption.bathRoomCnt.goe(minBathrooms);
     }
 
+    private BooleanExpression maxGuestNumGoe(Integer guests) {
+        return Objects.isNull(guests) ? null : room.maxGuestNum.goe(guests);
+    }
+
     private BooleanExpression bedroomsGoe(Integer minBedrooms) {
-        return Objects.isNull(minBedrooms) ? null : room.roomOption.bathRoomCnt.goe(minBedrooms);
+        return Objects.isNull(minBedrooms) ? null : room.roomOption.bedRoomCnt.goe(minBedrooms);
     }
 
     private BooleanExpression bedsGoe(Integer minBeds) {
@@ -0,0 +1,44 @@
+package com.prgrms.amabnb.room.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.prgrms.amabnb.room.dto.response.NightlyPriceSumDto;
+import com.prgrms.amabnb.room.entity.RoomNightlyPrice;
+
+public interface RoomNightlyPriceRepository extends JpaRepository<RoomNightlyPrice, Long> {
+
+    List<RoomNightlyPrice> findByRoomIdOrderByStayDate(Long roomId);
+
+    @Query("SELECT p FROM RoomNightlyPrice p "
+        + "WHERE p.roomId = :roomId AND p.stayDate >= :startDate AND p.stayDate < :endDate")
+    List<RoomNightlyPrice> findInRange(
+        @Param("roomId") Long roomId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Query("SELECT new com.prgrms.amabnb.room.dto.response.NightlyPriceSumDto(SUM(p.price.value), COUNT(p)) "
+        + "FROM RoomNightlyPrice p "
+        + "WHERE p.roomId = :roomId AND p.stayDate >= :startDate AND p.stayDate < :endDate")
+    NightlyPriceSumDto sumInRange(
+        @Param("roomId") Long roomId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Modifying
+    @Query("DELETE FROM RoomNightlyPrice p "
+        + "WHERE p.roomId = :roomId AND p.stayDate >= :startDate AND p.stayDate < :endDate")
+    int deleteInRange(
+        @Param("roomId") Long roomId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+}
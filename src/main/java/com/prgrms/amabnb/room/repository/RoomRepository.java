@@ -3,6 +3,7 @@ package com.prgrms.amabnb.room.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,4 +16,16 @@ public interface RoomRepository extends JpaRepository<Room, Long>, QueryRoomRepo
         + "WHERE r.id = :roomId")
     Optional<Room> findRoomWithHostById(@Param("roomId") Long roomId);
 
+    @Query("SELECT r.id FROM Room r WHERE r.icsToken = :icsToken")
+    Optional<Long> findIdByIcsToken(@Param("icsToken") String icsToken);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Room r SET "
+        + "r.reviewScore = CASE WHEN r.reviewCount + :delta = 0 THEN 0.0 "
+        + "ELSE (r.reviewScoreSum + :score) * 1.0 / (r.reviewCount + :delta) END, "
+        + "r.reviewCount = r.reviewCount + :delta, "
+        + "r.reviewScoreSum = r.reviewScoreSum + :score "
+        + "WHERE r.id = :roomId")
+    int applyReviewScore(@Param("roomId") Long roomId, @Param("delta") int delta, @Param("score") long score);
+
 }
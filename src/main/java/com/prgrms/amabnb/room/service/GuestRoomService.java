@@ -2,13 +2,19 @@ package com.prgrms.amabnb.room.service;
 
 import java.util.List;
 
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import com.prgrms.amabnb.room.dto.request.RoomSearchCursor;
+import com.prgrms.amabnb.room.dto.request.RoomSearchPageRequest;
+import com.prgrms.amabnb.room.dto.request.RoomSearchSort;
 import com.prgrms.amabnb.room.dto.request.SearchRoomFilterCondition;
+import com.prgrms.amabnb.room.dto.response.RoomFacetResponse;
 import com.prgrms.amabnb.room.dto.response.RoomResponse;
+import com.prgrms.amabnb.room.dto.response.RoomSearchPageResponse;
 import com.prgrms.amabnb.room.dto.response.RoomSearchResponse;
+import com.prgrms.amabnb.room.exception.RoomInvalidValueException;
 import com.prgrms.amabnb.room.exception.RoomNotFoundException;
+import com.prgrms.amabnb.room.exception.RoomSearchNotReadyException;
 import com.prgrms.amabnb.room.repository.RoomRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -18,16 +24,69 @@ import lombok.RequiredArgsConstructor;
 public class GuestRoomService {
 
     private final RoomRepository roomRepository;
+    private final RoomSearchIndexService roomSearchIndexService;
+    private final RoomFacetCache roomFacetCache;
 
-    public List<RoomSearchResponse> searchRoomsByFilterCondition(SearchRoomFilterCondition filterCondition,
-        Pageable pageable) {
-
-        return roomRepository.findRoomsByFilterCondition(filterCondition, pageable);
+    public RoomSearchPageResponse searchRoomsByFilterCondition(SearchRoomFilterCondition filterCondition,
+        RoomSearchPageRequest pageRequest) {
 
+        validateStayDates(filterCondition);
+        RoomSearchSort sort = pageRequest.resolveSort(filterCondition.hasKeyword());
+        validateSort(filterCondition, sort);
+        validateKeywordSearchReady(filterCondition);
+        RoomSearchCandidates candidates = roomSearchIndexService.candidates(filterCondition);
+        List<RoomSearchResponse> rooms = searchRooms(filterCondition, pageRequest, sort, candidates);
+        boolean hasNext = rooms.size() > pageRequest.getSize();
+        List<RoomSearchResponse> page = hasNext ? rooms.subList(0, pageRequest.getSize()) : rooms;
+        String nextCursor = hasNext
+            ? RoomSearchCursor.after(sort, page.get(page.size() - 1)).encode()
+            : null;
+        RoomFacetResponse facets = pageRequest.isFacets() ? searchFacets(filterCondition, candidates) : null;
+        return new RoomSearchPageResponse(page, nextCursor, facets);
     }
 
     public RoomResponse searchRoomDetail(Long roomId) {
         return RoomResponse.from(roomRepository.findRoomById(roomId).orElseThrow(RoomNotFoundException::new));
     }
 
+    private List<RoomSearchResponse> searchRooms(SearchRoomFilterCondition filterCondition,
+        RoomSearchPageRequest pageRequest, RoomSearchSort sort, RoomSearchCandidates candidates) {
+        RoomSearchCursor cursor = pageRequest.toCursor(sort);
+        int limit = pageRequest.getSize() + 1;
+        if (roomSearchIndexService.canSearch(filterCondition)) {
+            return roomSearchIndexService.search(filterCondition, sort, cursor, limit, candidates);
+        }
+        return roomRepository.findRoomsByFilterCondition(filterCondition, sort, cursor, limit);
+    }
+
+    private RoomFacetResponse searchFacets(SearchRoomFilterCondition filterCondition,
+        RoomSearchCandidates candidates) {
+        if (filterCondition.hasStayDates()) {
+            return roomSearchIndexService.canSearch(filterCondition)
+                ? roomSearchIndexService.facets(filterCondition, candidates)
+                : roomRepository.findFacetsByFilterCondition(filterCondition);
+        }
+        return roomFacetCache.get(filterCondition, () -> roomSearchIndexService.canSearch(filterCondition)
+            ? roomSearchIndexService.facets(filterCondition, candidates)
+            : roomRepository.findFacetsByFilterCondition(filterCondition));
+    }
+
+    private void validateStayDates(SearchRoomFilterCondition filterCondition) {
+        if (filterCondition.hasStayDates() && !filterCondition.isValidStayDates()) {
+            throw new RoomInvalidValueException("체크아웃 날짜는 체크인 날짜 이후여야 합니다.");
+        }
+    }
+
+    private void validateKeywordSearchReady(SearchRoomFilterCondition filterCondition) {
+        if (filterCondition.hasKeyword() && !roomSearchIndexService.isReady()) {
+            throw new RoomSearchNotReadyException();
+        }
+    }
+
+    private void validateSort(SearchRoomFilterCondition filterCondition, RoomSearchSort sort) {
+        if (sort == RoomSearchSort.RELEVANCE && !filterCondition.hasKeyword()) {
+            throw new RoomInvalidValueException("관련도 정렬은 검색어가 있을 때만 사용할 수 있습니다.");
+        }
+    }
+
 }
@@ -2,9 +2,12 @@ package com.prgrms.amabnb.room.service;
 
 import java.util.List;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.prgrms.amabnb.common.exception.ConstraintViolations;
+import com.prgrms.amabnb.common.retry.OptimisticLockRetry;
 import com.prgrms.amabnb.common.vo.Money;
 import com.prgrms.amabnb.room.dto.request.CreateRoomRequest;
 import com.prgrms.amabnb.room.dto.request.ModifyRoomRequest;
@@ -26,29 +29,49 @@ public class HostRoomService {
 
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
+    private final RoomPriceService roomPriceService;
+    private final RoomSearchIndexService roomSearchIndexService;
 
     @Transactional
     public Long createRoom(Long hostId, CreateRoomRequest createRoomRequest) {
-        User user = userRepository.findById(hostId).orElseThrow(UserNotFoundException::new);
+        User user = userRepository.getReferenceById(hostId);
         Room room = createRoomRequest.toRoom(user);
-        return roomRepository.save(room).getId();
+        Room savedRoom = saveRoom(room);
+        roomSearchIndexService.index(savedRoom);
+        return savedRoom.getId();
     }
 
+    @OptimisticLockRetry
     @Transactional
     public void modifyRoom(Long hostId, Long roomId, ModifyRoomRequest modifyRoomRequest) {
         Room room = roomRepository.findRoomByIdAndHostId(roomId, hostId).orElseThrow(RoomNotFoundException::new);
         changeRoomData(modifyRoomRequest, room);
+        roomPriceService.evict(roomId);
+        roomSearchIndexService.index(room);
     }
 
     public List<RoomResponse> searchRoomsForHost(Long hostId) {
-        isExistUser(hostId);
+        List<Room> rooms = roomRepository.findRoomsByHostId(hostId);
+        if (rooms.isEmpty()) {
+            isExistUser(hostId);
+        }
 
-        return roomRepository.findRoomsByHostId(hostId)
-            .stream()
+        return rooms.stream()
             .map(RoomResponse::from)
             .toList();
     }
 
+    private Room saveRoom(Room room) {
+        try {
+            return roomRepository.save(room);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, Room.HOST_FOREIGN_KEY)) {
+                throw new UserNotFoundException();
+            }
+            throw e;
+        }
+    }
+
     private void changeRoomData(ModifyRoomRequest modifyRoomRequest, Room room) {
         room.changeName(modifyRoomRequest.getName());
         room.changePrice(new Money(modifyRoomRequest.getPrice()));
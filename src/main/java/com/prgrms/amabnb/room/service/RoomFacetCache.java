@@ -0,0 +1,69 @@
+package com.prgrms.amabnb.room.service;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.prgrms.amabnb.room.dto.request.SearchRoomFilterCondition;
+import com.prgrms.amabnb.room.dto.response.RoomFacetResponse;
+
+@Component
+public class RoomFacetCache {
+
+    private static final int MAX_ENTRIES = 1_000;
+    private static final String DELIMITER = "|";
+
+    private final Map<String, RoomFacetResponse> facets = new ConcurrentHashMap<>();
+
+    public RoomFacetResponse get(SearchRoomFilterCondition condition, Supplier<RoomFacetResponse> loader) {
+        String key = normalize(condition);
+        RoomFacetResponse cached = facets.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        RoomFacetResponse loaded = loader.get();
+        if (facets.size() >= MAX_ENTRIES) {
+            facets.clear();
+        }
+        facets.putIfAbsent(key, loaded);
+        return loaded;
+    }
+
+    public void clear() {
+        facets.clear();
+    }
+
+    private String normalize(SearchRoomFilterCondition condition) {
+        return String.join(DELIMITER,
+            Objects.toString(condition.getMinBeds(), ""),
+            Objects.toString(condition.getMinBedrooms(), ""),
+            Objects.toString(condition.getMinBathrooms(), ""),
+            Objects.toString(condition.getGuests(), ""),
+            Objects.toString(condition.getMinPrice(), ""),
+            Objects.toString(condition.getMaxPrice(), ""),
+            normalize(condition.getRoomTypes()),
+            normalize(condition.getRoomScopes()),
+            condition.hasKeyword()
+                ? Normalizer.normalize(condition.getKeyword().strip(), Normalizer.Form.NFKC).toLowerCase()
+                : ""
+        );
+    }
+
+    private String normalize(List<? extends Enum<?>> values) {
+        if (values == null) {
+            return "*";
+        }
+        return values.stream()
+            .map(Enum::name)
+            .distinct()
+            .sorted()
+            .reduce((a, b) -> a + "," + b)
+            .orElse("");
+    }
+
+}
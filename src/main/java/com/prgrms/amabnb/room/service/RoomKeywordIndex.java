@@ -0,0 +1,175 @@
+package com.prgrms.amabnb.room.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoomKeywordIndex {
+
+    private static final int GRAM_SIZE = 2;
+    private static final int NAME_WEIGHT = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Integer> lengths = new HashMap<>();
+    private long totalLength;
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (int[] word : words(text)) {
+            if (word.length < GRAM_SIZE) {
+                tokens.add(new String(word, 0, word.length));
+                continue;
+            }
+            addGrams(tokens, word);
+        }
+        return tokens;
+    }
+
+    // documents carry every single character as well, so a one-character query word finds rooms that only
+    // contain it inside a longer word
+    static List<String> indexTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (int[] word : words(text)) {
+            for (int codePoint : word) {
+                tokens.add(new String(new int[] {codePoint}, 0, 1));
+            }
+            if (word.length >= GRAM_SIZE) {
+                addGrams(tokens, word);
+            }
+        }
+        return tokens;
+    }
+
+    private static List<int[]> words(String text) {
+        List<int[]> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word.codePoints().toArray());
+            }
+        }
+        return words;
+    }
+
+    private static void addGrams(List<String> tokens, int[] codePoints) {
+        for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, GRAM_SIZE));
+        }
+    }
+
+    public boolean index(Long roomId, String name, String description) {
+        Map<String, Integer> terms = new HashMap<>();
+        indexTokens(name).forEach(token -> terms.merge(token, NAME_WEIGHT, Integer::sum));
+        indexTokens(description).forEach(token -> terms.merge(token, 1, Integer::sum));
+        int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            if (terms.equals(documents.get(roomId))) {
+                return false;
+            }
+            remove(roomId);
+            terms.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new HashMap<>())
+                .put(roomId, frequency));
+            documents.put(roomId, terms);
+            lengths.put(roomId, length);
+            totalLength += length;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Map<Long, Double> search(String keyword) {
+        Set<String> queryTerms = tokenize(keyword).stream().collect(Collectors.toSet());
+        if (queryTerms.isEmpty()) {
+            return Map.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> termPostings = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return Map.of();
+                }
+                termPostings.add(posting);
+            }
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = documents.size();
+            double averageLength = (double)totalLength / documentCount;
+            Map<Long, Double> scores = new LinkedHashMap<>();
+            for (Long roomId : termPostings.get(0).keySet()) {
+                double score = 0.0;
+                for (Map<Long, Integer> posting : termPostings) {
+                    Integer frequency = posting.get(roomId);
+                    if (frequency == null) {
+                        score = Double.NaN;
+                        break;
+                    }
+                    score += bm25(frequency, posting.size(), documentCount, lengths.get(roomId), averageLength);
+                }
+                if (!Double.isNaN(score)) {
+                    scores.put(roomId, score);
+                }
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            lengths.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long roomId) {
+        Map<String, Integer> terms = documents.remove(roomId);
+        if (terms == null) {
+            return;
+        }
+        terms.keySet().forEach(term -> {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(roomId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+        totalLength -= lengths.remove(roomId);
+    }
+
+    private double bm25(int frequency, int documentFrequency, int documentCount, int length, double averageLength) {
+        double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        double normalizedLength = 1 - B + B * length / averageLength;
+        return idf * frequency * (K1 + 1) / (frequency + K1 * normalizedLength);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.prgrms.amabnb.room.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoomPriceCalendar {
+
+    private static final long TTL_MILLIS = Duration.ofMinutes(5).toMillis();
+    private static final int MAX_ROOMS = 10_000;
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    public RoomPriceTable get(Long roomId, Supplier<RoomPriceTable> loader) {
+        if (slots.size() >= MAX_ROOMS && !slots.containsKey(roomId)) {
+            slots.clear();
+        }
+        Slot slot = slots.computeIfAbsent(roomId, id -> new Slot());
+        Loaded cached = slot.loaded;
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.table();
+        }
+        RoomPriceTable loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            // unknown rooms must not leave an empty slot behind
+            if (slot.loaded == null) {
+                slots.remove(roomId, slot);
+            }
+            throw e;
+        }
+        // evict() detaches the slot, so a table loaded before a price change only lands in the orphaned slot
+        slot.loaded = new Loaded(loaded, now + TTL_MILLIS);
+        return loaded;
+    }
+
+    public void evict(Long roomId) {
+        slots.remove(roomId);
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public void clear() {
+        slots.clear();
+    }
+
+    private static class Slot {
+        private volatile Loaded loaded;
+    }
+
+    private record Loaded(RoomPriceTable table, long expiresAt) {
+    }
+
+}
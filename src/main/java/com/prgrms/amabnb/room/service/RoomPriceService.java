@@ -0,0 +1,119 @@
+package com.prgrms.amabnb.room.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.prgrms.amabnb.common.transaction.TransactionCallbacks;
+import com.prgrms.amabnb.common.vo.Money;
+import com.prgrms.amabnb.room.dto.request.ChangeRoomPriceRequest;
+import com.prgrms.amabnb.room.dto.response.NightlyPriceSumDto;
+import com.prgrms.amabnb.room.dto.response.RoomQuoteResponse;
+import com.prgrms.amabnb.room.entity.Room;
+import com.prgrms.amabnb.room.entity.RoomNightlyPrice;
+import com.prgrms.amabnb.room.exception.RoomInvalidValueException;
+import com.prgrms.amabnb.room.exception.RoomNotFoundException;
+import com.prgrms.amabnb.room.repository.RoomNightlyPriceRepository;
+import com.prgrms.amabnb.room.repository.RoomRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class RoomPriceService {
+
+    private static final int MAX_PRICING_DAYS = 730;
+
+    private final RoomRepository roomRepository;
+    private final RoomNightlyPriceRepository roomNightlyPriceRepository;
+    private final RoomPriceCalendar roomPriceCalendar;
+
+    public RoomQuoteResponse quote(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        validateStay(checkIn, checkOut);
+        RoomPriceTable table = roomPriceCalendar.get(roomId, () -> loadTable(
+            roomRepository.findById(roomId).orElseThrow(RoomNotFoundException::new)));
+        return new RoomQuoteResponse(
+            roomId,
+            checkIn,
+            checkOut,
+            (int)ChronoUnit.DAYS.between(checkIn, checkOut),
+            table.totalPrice(checkIn, checkOut)
+        );
+    }
+
+    public long calculateTotalPrice(Room room, LocalDate checkIn, LocalDate checkOut) {
+        NightlyPriceSumDto overrides = roomNightlyPriceRepository.sumInRange(room.getId(), checkIn, checkOut);
+        long nights = ChronoUnit.DAYS.between(checkIn, checkOut);
+        return overrides.getTotalPrice() + (long)room.getPrice().getValue() * (nights - overrides.getNights());
+    }
+
+    @Transactional
+    public void changePrices(Long hostId, Long roomId, ChangeRoomPriceRequest request) {
+        validateHostRoom(hostId, roomId);
+        validatePricingRange(request.getStartDate(), request.getEndDate());
+        Money price = new Money(request.getPrice());
+
+        Map<LocalDate, RoomNightlyPrice> existing = roomNightlyPriceRepository
+            .findInRange(roomId, request.getStartDate(), request.getEndDate())
+            .stream()
+            .collect(Collectors.toMap(RoomNightlyPrice::getStayDate, Function.identity()));
+        List<RoomNightlyPrice> created = new ArrayList<>();
+        request.getStartDate().datesUntil(request.getEndDate()).forEach(date -> {
+            RoomNightlyPrice nightlyPrice = existing.get(date);
+            if (nightlyPrice == null) {
+                created.add(new RoomNightlyPrice(roomId, date, price));
+                return;
+            }
+            nightlyPrice.changePrice(price);
+        });
+        roomNightlyPriceRepository.saveAll(created);
+        evict(roomId);
+    }
+
+    @Transactional
+    public void resetPrices(Long hostId, Long roomId, LocalDate startDate, LocalDate endDate) {
+        validateHostRoom(hostId, roomId);
+        validateStay(startDate, endDate);
+        roomNightlyPriceRepository.deleteInRange(roomId, startDate, endDate);
+        evict(roomId);
+    }
+
+    public void evict(Long roomId) {
+        TransactionCallbacks.afterCommit(() -> roomPriceCalendar.evict(roomId));
+    }
+
+    private RoomPriceTable loadTable(Room room) {
+        return RoomPriceTable.of(
+            room.getPrice().getValue(),
+            roomNightlyPriceRepository.findByRoomIdOrderByStayDate(room.getId()),
+            LocalDate.now()
+        );
+    }
+
+    private void validateHostRoom(Long hostId, Long roomId) {
+        roomRepository.findRoomByIdAndHostId(roomId, hostId).orElseThrow(RoomNotFoundException::new);
+    }
+
+    private void validateStay(LocalDate checkIn, LocalDate checkOut) {
+        if (checkIn == null || checkOut == null || !checkIn.isBefore(checkOut)) {
+            throw new RoomInvalidValueException("종료일은 시작일 이후여야 합니다.");
+        }
+    }
+
+    private void validatePricingRange(LocalDate startDate, LocalDate endDate) {
+        validateStay(startDate, endDate);
+        LocalDate today = LocalDate.now();
+        if (startDate.isBefore(today) || endDate.isAfter(today.plusDays(MAX_PRICING_DAYS))) {
+            throw new RoomInvalidValueException("가격은 오늘부터 " + MAX_PRICING_DAYS + "일 이내의 날짜에만 설정할 수 있습니다.");
+        }
+    }
+
+}
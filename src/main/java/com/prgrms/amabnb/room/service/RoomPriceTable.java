@@ -0,0 +1,56 @@
+package com.prgrms.amabnb.room.service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import com.prgrms.amabnb.room.entity.RoomNightlyPrice;
+
+public class RoomPriceTable {
+
+    private final long basePrice;
+    private final long startDay;
+    private final long[] prefixSums;
+
+    private RoomPriceTable(long basePrice, long startDay, long[] prefixSums) {
+        this.basePrice = basePrice;
+        this.startDay = startDay;
+        this.prefixSums = prefixSums;
+    }
+
+    public static RoomPriceTable of(int basePrice, List<RoomNightlyPrice> overrides, LocalDate today) {
+        if (overrides.isEmpty()) {
+            return new RoomPriceTable(basePrice, today.toEpochDay(), new long[] {0L});
+        }
+        long startDay = Math.min(today.toEpochDay(), overrides.get(0).getStayDate().toEpochDay());
+        long endDay = overrides.get(overrides.size() - 1).getStayDate().toEpochDay() + 1;
+        long[] nightly = new long[(int)(endDay - startDay)];
+        Arrays.fill(nightly, basePrice);
+        for (RoomNightlyPrice override : overrides) {
+            nightly[(int)(override.getStayDate().toEpochDay() - startDay)] = override.getPrice().getValue();
+        }
+
+        long[] prefixSums = new long[nightly.length + 1];
+        for (int i = 0; i < nightly.length; i++) {
+            prefixSums[i + 1] = prefixSums[i] + nightly[i];
+        }
+        return new RoomPriceTable(basePrice, startDay, prefixSums);
+    }
+
+    public long totalPrice(LocalDate checkIn, LocalDate checkOut) {
+        long from = checkIn.toEpochDay();
+        long to = checkOut.toEpochDay();
+        long endDay = startDay + prefixSums.length - 1;
+
+        long total = 0L;
+        total += basePrice * Math.max(0L, Math.min(to, startDay) - from);
+        long coveredFrom = Math.max(from, startDay);
+        long coveredTo = Math.min(to, endDay);
+        if (coveredTo > coveredFrom) {
+            total += prefixSums[(int)(coveredTo - startDay)] - prefixSums[(int)(coveredFrom - startDay)];
+        }
+        total += basePrice * Math.max(0L, to - Math.max(from, endDay));
+        return total;
+    }
+
+}
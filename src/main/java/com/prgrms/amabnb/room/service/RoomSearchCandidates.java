@@ -0,0 +1,54 @@
+package com.prgrms.amabnb.room.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.prgrms.amabnb.room.dto.request.SearchRoomFilterCondition;
+import com.prgrms.amabnb.room.repository.RoomRepository;
+
+// keyword candidates of a single search request, shared by the page and its facets
+class RoomSearchCandidates {
+
+    private final SearchRoomFilterCondition condition;
+    private final RoomKeywordIndex roomKeywordIndex;
+    private final RoomRepository roomRepository;
+    private final Map<Long, Boolean> availability = new HashMap<>();
+    private Map<Long, Double> relevances;
+
+    RoomSearchCandidates(SearchRoomFilterCondition condition, RoomKeywordIndex roomKeywordIndex,
+        RoomRepository roomRepository) {
+        this.condition = condition;
+        this.roomKeywordIndex = roomKeywordIndex;
+        this.roomRepository = roomRepository;
+    }
+
+    Map<Long, Double> relevances() {
+        if (relevances == null) {
+            relevances = roomKeywordIndex.search(condition.getKeyword());
+        }
+        return relevances;
+    }
+
+    boolean contains(long roomId) {
+        return relevances().containsKey(roomId);
+    }
+
+    // keeps the given order; ids already checked in this request are not queried again
+    List<Long> available(Collection<Long> roomIds) {
+        List<Long> unchecked = roomIds.stream()
+            .filter(roomId -> !availability.containsKey(roomId))
+            .toList();
+        if (!unchecked.isEmpty()) {
+            Set<Long> available = roomRepository.findAvailableRoomIds(unchecked, condition.getCheckIn(),
+                condition.getCheckOut());
+            unchecked.forEach(roomId -> availability.put(roomId, available.contains(roomId)));
+        }
+        return roomIds.stream()
+            .filter(availability::get)
+            .toList();
+    }
+
+}
@@ -0,0 +1,360 @@
+package com.prgrms.amabnb.room.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+import java.util.stream.IntStream;
+
+import org.springframework.stereotype.Component;
+
+import com.prgrms.amabnb.room.dto.request.RoomSearchCursor;
+import com.prgrms.amabnb.room.dto.request.RoomSearchSort;
+import com.prgrms.amabnb.room.dto.request.SearchRoomFilterCondition;
+import com.prgrms.amabnb.room.dto.response.RoomFacetResponse;
+import com.prgrms.amabnb.room.dto.response.RoomIndexDto;
+import com.prgrms.amabnb.room.entity.RoomScope;
+import com.prgrms.amabnb.room.entity.RoomType;
+
+@Component
+public class RoomSearchIndex {
+
+    private static final int INITIAL_CAPACITY = 1_024;
+    private static final int BLOCK_WORDS = 1_024;
+    private static final int PARALLEL_THRESHOLD = 1 << 17;
+    private static final RoomType[] ROOM_TYPES = RoomType.values();
+    private static final RoomScope[] ROOM_SCOPES = RoomScope.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] prices = new int[INITIAL_CAPACITY];
+    private int[] beds = new int[INITIAL_CAPACITY];
+    private int[] bedrooms = new int[INITIAL_CAPACITY];
+    private int[] bathrooms = new int[INITIAL_CAPACITY];
+    private int[] maxGuests = new int[INITIAL_CAPACITY];
+    private double[] reviewScores = new double[INITIAL_CAPACITY];
+    private byte[] roomTypes = new byte[INITIAL_CAPACITY];
+    private byte[] roomScopes = new byte[INITIAL_CAPACITY];
+    private int size;
+    private volatile boolean warm;
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    public void warmUp() {
+        this.warm = true;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // returns whether a column that filters or facets read has changed, so review score updates keep facet caches
+    public boolean upsert(RoomIndexDto room) {
+        lock.writeLock().lock();
+        try {
+            Integer position = positions.get(room.getId());
+            boolean changed = position == null || !sameFacetColumns(position, room);
+            if (position == null) {
+                ensureCapacity(size + 1);
+                position = size++;
+                positions.put(room.getId(), position);
+            }
+            ids[position] = room.getId();
+            prices[position] = room.getPrice();
+            beds[position] = room.getBedCnt();
+            bedrooms[position] = room.getBedRoomCnt();
+            bathrooms[position] = room.getBathRoomCnt();
+            maxGuests[position] = room.getMaxGuestNum();
+            reviewScores[position] = room.getReviewScore();
+            roomTypes[position] = (byte)room.getRoomType().ordinal();
+            roomScopes[position] = (byte)room.getRoomScope().ordinal();
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> search(SearchRoomFilterCondition condition, RoomSearchSort sort, RoomSearchCursor cursor,
+        int limit) {
+        return search(condition, sort, cursor, limit, roomId -> true);
+    }
+
+    public List<Long> search(SearchRoomFilterCondition condition, RoomSearchSort sort, RoomSearchCursor cursor,
+        int limit, LongPredicate candidate) {
+        lock.readLock().lock();
+        try {
+            long[] matches = match(Criteria.from(condition));
+            PriorityQueue<Integer> page = new PriorityQueue<>(limit, (a, b) -> compare(b, a, sort));
+            for (int word = 0; word < matches.length; word++) {
+                long bits = matches[word];
+                while (bits != 0) {
+                    int position = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    if (cursor != null && !isAfter(position, sort, cursor) || !candidate.test(ids[position])) {
+                        continue;
+                    }
+                    if (page.size() < limit) {
+                        page.add(position);
+                    } else if (compare(position, page.peek(), sort) < 0) {
+                        page.poll();
+                        page.add(position);
+                    }
+                }
+            }
+            List<Integer> ordered = new ArrayList<>(page);
+            ordered.sort((a, b) -> compare(a, b, sort));
+            return ordered.stream().map(position -> ids[position]).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> searchAmong(Map<Long, Double> relevances, SearchRoomFilterCondition condition,
+        RoomSearchCursor cursor, int limit) {
+        return searchAmong(relevances, condition, cursor, limit, roomId -> true);
+    }
+
+    public List<Long> searchAmong(Map<Long, Double> relevances, SearchRoomFilterCondition condition,
+        RoomSearchCursor cursor, int limit, LongPredicate candidate) {
+        Comparator<Map.Entry<Long, Double>> byRelevance = Map.Entry.<Long, Double>comparingByValue()
+            .thenComparing(Map.Entry.comparingByKey());
+        lock.readLock().lock();
+        try {
+            Criteria criteria = Criteria.from(condition);
+            PriorityQueue<Map.Entry<Long, Double>> page = new PriorityQueue<>(limit, byRelevance);
+            for (Map.Entry<Long, Double> relevance : relevances.entrySet()) {
+                Integer position = positions.get(relevance.getKey());
+                if (position == null || !matches(criteria, position) || !candidate.test(relevance.getKey())) {
+                    continue;
+                }
+                if (cursor != null && !isAfter(relevance, cursor)) {
+                    continue;
+                }
+                if (page.size() < limit) {
+                    page.add(relevance);
+                } else if (byRelevance.compare(relevance, page.peek()) > 0) {
+                    page.poll();
+                    page.add(relevance);
+                }
+            }
+            List<Map.Entry<Long, Double>> ordered = new ArrayList<>(page);
+            ordered.sort(byRelevance.reversed());
+            return ordered.stream().map(Map.Entry::getKey).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public RoomFacetResponse facets(SearchRoomFilterCondition condition, LongPredicate candidate) {
+        lock.readLock().lock();
+        try {
+            long[] matches = match(Criteria.from(condition));
+            RoomFacetResponse.Counter counter = RoomFacetResponse.counter();
+            for (int word = 0; word < matches.length; word++) {
+                long bits = matches[word];
+                while (bits != 0) {
+                    int position = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    if (!candidate.test(ids[position])) {
+                        continue;
+                    }
+                    counter.add(ROOM_TYPES[roomTypes[position]], ROOM_SCOPES[roomScopes[position]], beds[position],
+                        bathrooms[position], prices[position], 1);
+                }
+            }
+            return counter.toResponse();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            positions.clear();
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean sameFacetColumns(int position, RoomIndexDto room) {
+        return prices[position] == room.getPrice()
+            && beds[position] == room.getBedCnt()
+            && bedrooms[position] == room.getBedRoomCnt()
+            && bathrooms[position] == room.getBathRoomCnt()
+            && maxGuests[position] == room.getMaxGuestNum()
+            && roomTypes[position] == room.getRoomType().ordinal()
+            && roomScopes[position] == room.getRoomScope().ordinal();
+    }
+
+    private long[] match(Criteria criteria) {
+        long[] words = new long[(size + 63) >>> 6];
+        int blocks = (words.length + BLOCK_WORDS - 1) / BLOCK_WORDS;
+        IntStream range = IntStream.range(0, blocks);
+        if (size >= PARALLEL_THRESHOLD) {
+            range = range.parallel();
+        }
+        range.forEach(block -> {
+            int toWord = Math.min(words.length, (block + 1) * BLOCK_WORDS);
+            for (int word = block * BLOCK_WORDS; word < toWord; word++) {
+                words[word] = matchWord(criteria, word);
+            }
+        });
+        return words;
+    }
+
+    private long matchWord(Criteria criteria, int word) {
+        int base = word << 6;
+        int length = Math.min(64, size - base);
+        long bits = length == 64 ? -1L : (1L << length) - 1;
+        bits = and(bits, criteria.minBeds, beds, base, length, true);
+        bits = and(bits, criteria.minBedrooms, bedrooms, base, length, true);
+        bits = and(bits, criteria.minBathrooms, bathrooms, base, length, true);
+        bits = and(bits, criteria.guests, maxGuests, base, length, true);
+        bits = and(bits, criteria.minPrice, prices, base, length, true);
+        bits = and(bits, criteria.maxPrice, prices, base, length, false);
+        bits = and(bits, criteria.roomTypes, roomTypes, base, length);
+        return and(bits, criteria.roomScopes, roomScopes, base, length);
+    }
+
+    private boolean matches(Criteria criteria, int position) {
+        return atLeast(beds[position], criteria.minBeds)
+            && atLeast(bedrooms[position], criteria.minBedrooms)
+            && atLeast(bathrooms[position], criteria.minBathrooms)
+            && atLeast(maxGuests[position], criteria.guests)
+            && atLeast(prices[position], criteria.minPrice)
+            && (criteria.maxPrice == null || prices[position] <= criteria.maxPrice)
+            && (criteria.roomTypes == Criteria.ANY || (criteria.roomTypes >>> roomTypes[position] & 1) != 0)
+            && (criteria.roomScopes == Criteria.ANY || (criteria.roomScopes >>> roomScopes[position] & 1) != 0);
+    }
+
+    private boolean atLeast(int value, Integer bound) {
+        return bound == null || value >= bound;
+    }
+
+    private long and(long bits, Integer bound, int[] column, int base, int length, boolean atLeast) {
+        if (bits == 0 || bound == null) {
+            return bits;
+        }
+        long matched = 0L;
+        for (int i = 0; i < length; i++) {
+            int value = column[base + i];
+            if (atLeast ? value >= bound : value <= bound) {
+                matched |= 1L << i;
+            }
+        }
+        return bits & matched;
+    }
+
+    private long and(long bits, int ordinals, byte[] column, int base, int length) {
+        if (bits == 0 || ordinals == Criteria.ANY) {
+            return bits;
+        }
+        long matched = 0L;
+        for (int i = 0; i < length; i++) {
+            if ((ordinals >>> column[base + i] & 1) != 0) {
+                matched |= 1L << i;
+            }
+        }
+        return bits & matched;
+    }
+
+    private int compare(int a, int b, RoomSearchSort sort) {
+        return switch (sort) {
+            case PRICE_ASC -> prices[a] != prices[b]
+                ? Integer.compare(prices[a], prices[b]) : Long.compare(ids[a], ids[b]);
+            case PRICE_DESC -> prices[a] != prices[b]
+                ? Integer.compare(prices[b], prices[a]) : Long.compare(ids[b], ids[a]);
+            case REVIEW_SCORE -> reviewScores[a] != reviewScores[b]
+                ? Double.compare(reviewScores[b], reviewScores[a]) : Long.compare(ids[b], ids[a]);
+            case NEWEST, RELEVANCE -> Long.compare(ids[b], ids[a]);
+        };
+    }
+
+    private boolean isAfter(int position, RoomSearchSort sort, RoomSearchCursor cursor) {
+        long id = ids[position];
+        return switch (sort) {
+            case PRICE_ASC -> prices[position] > cursor.getPrice()
+                || prices[position] == cursor.getPrice() && id > cursor.getRoomId();
+            case PRICE_DESC -> prices[position] < cursor.getPrice()
+                || prices[position] == cursor.getPrice() && id < cursor.getRoomId();
+            case REVIEW_SCORE -> reviewScores[position] < cursor.getReviewScore()
+                || reviewScores[position] == cursor.getReviewScore() && id < cursor.getRoomId();
+            case NEWEST, RELEVANCE -> id < cursor.getRoomId();
+        };
+    }
+
+    private boolean isAfter(Map.Entry<Long, Double> relevance, RoomSearchCursor cursor) {
+        return relevance.getValue() < cursor.getRelevance()
+            || relevance.getValue() == cursor.getRelevance() && relevance.getKey() < cursor.getRoomId();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int grown = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, grown);
+        prices = Arrays.copyOf(prices, grown);
+        beds = Arrays.copyOf(beds, grown);
+        bedrooms = Arrays.copyOf(bedrooms, grown);
+        bathrooms = Arrays.copyOf(bathrooms, grown);
+        maxGuests = Arrays.copyOf(maxGuests, grown);
+        reviewScores = Arrays.copyOf(reviewScores, grown);
+        roomTypes = Arrays.copyOf(roomTypes, grown);
+        roomScopes = Arrays.copyOf(roomScopes, grown);
+    }
+
+    private record Criteria(
+        Integer minBeds,
+        Integer minBedrooms,
+        Integer minBathrooms,
+        Integer guests,
+        Integer minPrice,
+        Integer maxPrice,
+        int roomTypes,
+        int roomScopes
+    ) {
+        static final int ANY = -1;
+
+        static Criteria from(SearchRoomFilterCondition condition) {
+            return new Criteria(
+                condition.getMinBeds(),
+                condition.getMinBedrooms(),
+                condition.getMinBathrooms(),
+                condition.getGuests(),
+                condition.getMinPrice(),
+                condition.getMaxPrice(),
+                toMask(condition.getRoomTypes()),
+                toMask(condition.getRoomScopes())
+            );
+        }
+
+        private static int toMask(List<? extends Enum<?>> values) {
+            if (values == null) {
+                return ANY;
+            }
+            int mask = 0;
+            for (Enum<?> value : values) {
+                mask |= 1 << value.ordinal();
+            }
+            return mask;
+        }
+    }
+
+}
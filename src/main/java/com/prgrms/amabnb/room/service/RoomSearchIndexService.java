@@ -0,0 +1,163 @@
+package com.prgrms.amabnb.room.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.prgrms.amabnb.common.index.IndexLoadBuffer;
+import com.prgrms.amabnb.common.transaction.TransactionCallbacks;
+import com.prgrms.amabnb.room.dto.request.RoomSearchCursor;
+import com.prgrms.amabnb.room.dto.request.RoomSearchSort;
+import com.prgrms.amabnb.room.dto.request.SearchRoomFilterCondition;
+import com.prgrms.amabnb.room.dto.response.RoomFacetResponse;
+import com.prgrms.amabnb.room.dto.response.RoomIndexDto;
+import com.prgrms.amabnb.room.dto.response.RoomSearchResponse;
+import com.prgrms.amabnb.room.entity.Room;
+import com.prgrms.amabnb.room.repository.RoomRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomSearchIndexService {
+
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+    private static final int MIN_AVAILABILITY_BATCH = 100;
+    private static final int FACET_CANDIDATE_LIMIT = 1_000;
+
+    private final RoomRepository roomRepository;
+    private final RoomSearchIndex roomSearchIndex;
+    private final RoomKeywordIndex roomKeywordIndex;
+    private final RoomFacetCache roomFacetCache;
+    private final IndexLoadBuffer indexLoadBuffer = new IndexLoadBuffer();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        indexLoadBuffer.startLoading();
+        Long lastRoomId = null;
+        List<RoomIndexDto> rows;
+        do {
+            rows = roomRepository.findIndexRowsAfter(lastRoomId, LOAD_CHUNK_SIZE);
+            for (RoomIndexDto row : rows) {
+                upsert(row);
+                lastRoomId = row.getId();
+            }
+        } while (rows.size() == LOAD_CHUNK_SIZE);
+
+        indexLoadBuffer.finishLoading(roomSearchIndex::warmUp);
+        log.info("[ROOM SEARCH] loaded {} rooms into room search index", roomSearchIndex.size());
+    }
+
+    public boolean isReady() {
+        return roomSearchIndex.isWarm();
+    }
+
+    // keyword searches always start from the keyword index; stay dates are then applied to its candidates
+    public boolean canSearch(SearchRoomFilterCondition filterCondition) {
+        return roomSearchIndex.isWarm() && (!filterCondition.hasStayDates() || filterCondition.hasKeyword());
+    }
+
+    RoomSearchCandidates candidates(SearchRoomFilterCondition filterCondition) {
+        return new RoomSearchCandidates(filterCondition, roomKeywordIndex, roomRepository);
+    }
+
+    public List<RoomSearchResponse> search(
+        SearchRoomFilterCondition filterCondition,
+        RoomSearchSort sort,
+        RoomSearchCursor cursor,
+        int limit,
+        RoomSearchCandidates candidates
+    ) {
+        if (!filterCondition.hasKeyword()) {
+            return findRooms(roomSearchIndex.search(filterCondition, sort, cursor, limit));
+        }
+
+        List<RoomSearchResponse> rooms = findRooms(filterCondition.hasStayDates()
+            ? rankAvailable(filterCondition, sort, cursor, limit, candidates)
+            : rank(filterCondition, sort, cursor, limit, candidates, roomId -> true));
+        if (sort == RoomSearchSort.RELEVANCE) {
+            Map<Long, Double> relevances = candidates.relevances();
+            return rooms.stream()
+                .map(room -> room.withRelevance(relevances.get(room.getId())))
+                .toList();
+        }
+        return rooms;
+    }
+
+    // with stay dates only the most relevant candidates are checked, so the counts cover at most
+    // FACET_CANDIDATE_LIMIT rooms
+    public RoomFacetResponse facets(SearchRoomFilterCondition filterCondition, RoomSearchCandidates candidates) {
+        if (!filterCondition.hasKeyword()) {
+            return roomSearchIndex.facets(filterCondition, roomId -> true);
+        }
+        if (!filterCondition.hasStayDates()) {
+            return roomSearchIndex.facets(filterCondition, candidates::contains);
+        }
+        Set<Long> available = new HashSet<>(candidates.available(roomSearchIndex.searchAmong(
+            candidates.relevances(), filterCondition, null, FACET_CANDIDATE_LIMIT)));
+        return roomSearchIndex.facets(filterCondition, available::contains);
+    }
+
+    public void index(Room room) {
+        RoomIndexDto row = RoomIndexDto.from(room);
+        TransactionCallbacks.afterCommit(() -> indexLoadBuffer.apply(() -> upsert(row)));
+    }
+
+    public void refresh(Long roomId) {
+        TransactionCallbacks.afterCommit(() -> indexLoadBuffer.apply(
+            () -> roomRepository.findIndexRowById(roomId).ifPresent(this::upsert)));
+    }
+
+    private List<Long> rank(SearchRoomFilterCondition filterCondition, RoomSearchSort sort, RoomSearchCursor cursor,
+        int limit, RoomSearchCandidates candidates, LongPredicate candidate) {
+        if (sort == RoomSearchSort.RELEVANCE) {
+            return roomSearchIndex.searchAmong(candidates.relevances(), filterCondition, cursor, limit, candidate);
+        }
+        return roomSearchIndex.search(filterCondition, sort, cursor, limit,
+            roomId -> candidates.contains(roomId) && candidate.test(roomId));
+    }
+
+    // checks availability a ranked batch at a time and stops once the page is full,
+    // so a common term does not send its whole posting list to the database
+    private List<Long> rankAvailable(SearchRoomFilterCondition filterCondition, RoomSearchSort sort,
+        RoomSearchCursor cursor, int limit, RoomSearchCandidates candidates) {
+        int batchSize = Math.max(limit * 2, MIN_AVAILABILITY_BATCH);
+        Set<Long> ranked = new HashSet<>();
+        List<Long> page = new ArrayList<>(limit);
+        while (page.size() < limit) {
+            List<Long> batch = rank(filterCondition, sort, cursor, batchSize, candidates,
+                roomId -> !ranked.contains(roomId));
+            ranked.addAll(batch);
+            page.addAll(candidates.available(batch));
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return page.size() > limit ? page.subList(0, limit) : page;
+    }
+
+    private List<RoomSearchResponse> findRooms(List<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+        return roomRepository.findRoomsByIdIn(roomIds);
+    }
+
+    private void upsert(RoomIndexDto row) {
+        boolean facetsChanged = roomSearchIndex.upsert(row);
+        boolean keywordsChanged = roomKeywordIndex.index(row.getId(), row.getName(), row.getDescription());
+        if (facetsChanged || keywordsChanged) {
+            roomFacetCache.clear();
+        }
+    }
+
+}
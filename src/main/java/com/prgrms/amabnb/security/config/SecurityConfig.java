@@ -1,6 +1,7 @@
 package com.prgrms.amabnb.security.config;
 
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -29,6 +30,7 @@ public class SecurityConfig {
         http
             .authorizeHttpRequests()
             .antMatchers("/token").permitAll()
+            .antMatchers(HttpMethod.GET, "/rooms/ics/*.ics").permitAll()
             .anyRequest().authenticated()
             .and()
 
@@ -1,8 +1,15 @@
 package com.prgrms.amabnb.user.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.LockModeType;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.prgrms.amabnb.user.entity.User;
 
@@ -10,4 +17,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByOauthId(String oauthId);
 
+    @Query("SELECT u.id FROM User u WHERE u.id > :lastUserId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :userId")
+    Optional<User> findByIdForUpdate(@Param("userId") Long userId);
+
 }
@@ -0,0 +1,163 @@
+package com.prgrms.amabnb.common.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore idempotencyStore =
+        new IdempotencyStore(new ObjectMapper(), Duration.ofMinutes(1), 100, Duration.ofSeconds(5), 16);
+
+    @DisplayName("동시에 들어온 같은 키의 요청은 처음 실행 결과를 기다려 공유한다.")
+    @Test
+    void execute_concurrent_duplicate() throws Exception {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() ->
+            idempotencyStore.execute(1L, "key", "body", () -> {
+                started.countDown();
+                await(release);
+                return executions.incrementAndGet();
+            }));
+        started.await();
+
+        // when
+        CompletableFuture<Integer> duplicate = CompletableFuture.supplyAsync(() ->
+            idempotencyStore.execute(1L, "key", "body", executions::incrementAndGet));
+        release.countDown();
+
+        // then
+        assertAll(
+            () -> assertThat(first.get()).isOne(),
+            () -> assertThat(duplicate.get()).isOne(),
+            () -> assertThat(executions.get()).isOne()
+        );
+    }
+
+    @DisplayName("사용자가 다르면 같은 키라도 따로 실행한다.")
+    @Test
+    void execute_other_user() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        idempotencyStore.execute(1L, "key", "body", executions::incrementAndGet);
+        idempotencyStore.execute(2L, "key", "body", executions::incrementAndGet);
+
+        // then
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @DisplayName("실패한 요청은 기록하지 않아 같은 키로 다시 시도할 수 있다.")
+    @Test
+    void execute_after_failure() {
+        // given
+        assertThatThrownBy(() -> idempotencyStore.execute(1L, "key", "body", () -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        // when
+        int result = idempotencyStore.execute(1L, "key", "body", () -> 1);
+
+        // then
+        assertThat(result).isOne();
+    }
+
+    @DisplayName("같은 키로 본문이 다른 요청을 보내면 실행하지 않고 거절한다.")
+    @Test
+    void execute_other_body() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        idempotencyStore.execute(1L, "key", "body", executions::incrementAndGet);
+
+        // when, then
+        assertAll(
+            () -> assertThatThrownBy(() -> idempotencyStore.execute(1L, "key", "other", executions::incrementAndGet))
+                .isInstanceOf(IdempotencyKeyReusedException.class),
+            () -> assertThat(executions.get()).isOne()
+        );
+    }
+
+    @DisplayName("처리 중인 요청은 저장 한도를 넘어도 제거하지 않아 같은 키의 요청이 다시 실행되지 않는다.")
+    @Test
+    void execute_evict_keeps_running() throws Exception {
+        // given
+        IdempotencyStore smallStore =
+            new IdempotencyStore(new ObjectMapper(), Duration.ofMinutes(1), 1, Duration.ofMillis(100), 16);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() ->
+            smallStore.execute(1L, "key", "body", () -> {
+                started.countDown();
+                await(release);
+                return executions.incrementAndGet();
+            }));
+        started.await();
+        smallStore.execute(1L, "other", "body", () -> 0);
+
+        // when
+        Throwable duplicate = catchThrowable(() ->
+            smallStore.execute(1L, "key", "body", executions::incrementAndGet));
+        release.countDown();
+
+        // then
+        assertAll(
+            () -> assertThat(duplicate).isInstanceOf(IdempotencyRequestInProgressException.class),
+            () -> assertThat(first.get()).isOne(),
+            () -> assertThat(executions.get()).isOne()
+        );
+    }
+
+    @DisplayName("요청이 Error로 끝나도 기록하지 않아 같은 키로 바로 다시 시도할 수 있다.")
+    @Test
+    void execute_after_error() {
+        // given
+        IdempotencyStore store =
+            new IdempotencyStore(new ObjectMapper(), Duration.ofMinutes(1), 100, Duration.ofMillis(100), 16);
+        assertThatThrownBy(() -> store.execute(1L, "key", "body", () -> {
+            throw new AssertionError();
+        })).isInstanceOf(AssertionError.class);
+
+        // when
+        int result = store.execute(1L, "key", "body", () -> 1);
+
+        // then
+        assertThat(result).isOne();
+    }
+
+    @DisplayName("멱등키가 최대 길이를 넘으면 실행하지 않고 거절한다.")
+    @Test
+    void execute_key_too_long() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when, then
+        assertAll(
+            () -> assertThatThrownBy(() -> idempotencyStore.execute(1L, "k".repeat(17), "body",
+                executions::incrementAndGet)).isInstanceOf(IdempotencyKeyInvalidException.class),
+            () -> assertThat(executions.get()).isZero()
+        );
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.prgrms.amabnb.common.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IndexLoadBufferTest {
+
+    private final IndexLoadBuffer indexLoadBuffer = new IndexLoadBuffer();
+
+    @DisplayName("적재 중에 들어온 변경은 적재가 끝난 뒤 순서대로 다시 적용하고, 그 뒤에 준비 완료로 표시한다.")
+    @Test
+    void replayAfterLoading() {
+        // given
+        List<String> applied = new ArrayList<>();
+        indexLoadBuffer.startLoading();
+        indexLoadBuffer.apply(() -> applied.add("release"));
+        applied.add("load");
+
+        // when
+        indexLoadBuffer.finishLoading(() -> applied.add("ready"));
+        indexLoadBuffer.apply(() -> applied.add("reserve"));
+
+        // then
+        assertThat(applied).containsExactly("load", "release", "ready", "reserve");
+    }
+
+}
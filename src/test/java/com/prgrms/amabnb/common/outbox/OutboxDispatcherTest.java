@@ -0,0 +1,117 @@
+package com.prgrms.amabnb.common.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.prgrms.amabnb.config.ApiTest;
+import com.prgrms.amabnb.reservation.entity.ReservationStatus;
+import com.prgrms.amabnb.reservation.event.ReservationStatusChangedEvent;
+
+@RecordApplicationEvents
+class OutboxDispatcherTest extends ApiTest {
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    private OutboxEventPublisher outboxEventPublisher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DisplayName("아웃박스에 저장된 이벤트를 구독자에게 전달하고 발행 완료로 표시한다.")
+    @Test
+    void dispatch() {
+        // given
+        ReservationStatusChangedEvent event = new ReservationStatusChangedEvent(1L, 2L, 3L, 4L,
+            ReservationStatus.APPROVED);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> outboxEventPublisher.publish(event));
+
+        // when
+        int published = outboxDispatcher.dispatch(LocalDateTime.now());
+
+        // then
+        assertAll(
+            () -> assertThat(published).isOne(),
+            () -> assertThat(applicationEvents.stream(ReservationStatusChangedEvent.class)).containsExactly(event),
+            () -> assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getStatus)
+                .containsExactly(OutboxStatus.PUBLISHED),
+            () -> assertThat(outboxDispatcher.dispatch(LocalDateTime.now())).isZero()
+        );
+    }
+
+    @DisplayName("전달에 실패한 이벤트는 대기 상태로 남아 다음 시도 시각에 다시 전달된다.")
+    @Test
+    void dispatch_failed() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.save(new OutboxEvent("com.prgrms.amabnb.UnknownEvent", "{}", now));
+
+        // when
+        int published = outboxDispatcher.dispatch(now);
+
+        // then
+        OutboxEvent event = outboxEventRepository.findAll().get(0);
+        assertAll(
+            () -> assertThat(published).isZero(),
+            () -> assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING),
+            () -> assertThat(event.getAttempts()).isOne(),
+            () -> assertThat(event.getNextAttemptAt()).isAfter(now)
+        );
+    }
+
+    @DisplayName("허용 목록에 없는 타입의 이벤트는 역직렬화하지 않고 실패로 기록한다.")
+    @Test
+    void dispatch_notAllowedType() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.save(new OutboxEvent("java.util.HashMap", "{}", now));
+
+        // when
+        int published = outboxDispatcher.dispatch(now);
+
+        // then
+        assertAll(
+            () -> assertThat(published).isZero(),
+            () -> assertThat(applicationEvents.stream(HashMap.class)).isEmpty(),
+            () -> assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getAttempts)
+                .containsExactly(1)
+        );
+    }
+
+    @DisplayName("최대 시도 횟수를 넘긴 이벤트는 실패 상태가 된다.")
+    @Test
+    void fail_exhausted() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent event = new OutboxEvent("type", "{}", now);
+
+        // when
+        event.fail(now, 2, Duration.ofSeconds(1));
+        event.fail(now, 2, Duration.ofSeconds(1));
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.prgrms.amabnb.common.retry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.prgrms.amabnb.reservation.entity.Reservation;
+
+class OptimisticLockRetryAspectTest {
+
+    @DisplayName("낙관적 락 충돌이 발생하면 다시 시도한다.")
+    @Test
+    void retry() {
+        // given
+        ConflictingService target = new ConflictingService(2);
+        ConflictingService proxy = createProxy(target);
+
+        // when
+        int attempts = proxy.update();
+
+        // then
+        assertAll(
+            () -> assertThat(attempts).isEqualTo(3),
+            () -> assertThat(target.attempts).isEqualTo(3)
+        );
+    }
+
+    @DisplayName("최대 시도 횟수를 넘으면 충돌 예외를 그대로 던진다.")
+    @Test
+    void retry_exhausted() {
+        // given
+        ConflictingService target = new ConflictingService(5);
+        ConflictingService proxy = createProxy(target);
+
+        // when
+        // then
+        assertAll(
+            () -> assertThatThrownBy(proxy::update)
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class),
+            () -> assertThat(target.attempts).isEqualTo(3)
+        );
+    }
+
+    private ConflictingService createProxy(ConflictingService target) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new OptimisticLockRetryAspect());
+        return proxyFactory.getProxy();
+    }
+
+    static class ConflictingService {
+
+        private final int conflicts;
+        private int attempts;
+
+        ConflictingService(int conflicts) {
+            this.conflicts = conflicts;
+        }
+
+        @OptimisticLockRetry(maxAttempts = 3, backoffMillis = 1L)
+        public int update() {
+            attempts++;
+            if (attempts <= conflicts) {
+                throw new ObjectOptimisticLockingFailureException(Reservation.class, 1L);
+            }
+            return attempts;
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.prgrms.amabnb.common.timer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimerWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @DisplayName("마감 시각이 지난 키만 만료된다.")
+    @Test
+    void advance() {
+        // given
+        HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(10L, 4, 3, START);
+        wheel.schedule(1L, START + 30L);
+        wheel.schedule(2L, START + 50L);
+
+        // when
+        // then
+        assertAll(
+            () -> assertThat(wheel.advance(START + 20L)).isEmpty(),
+            () -> assertThat(wheel.advance(START + 30L)).containsExactly(1L),
+            () -> assertThat(wheel.size()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("상위 휠에 있는 키는 하위 휠로 내려오며 정확한 시각에 만료된다.")
+    @Test
+    void advance_cascade() {
+        // given
+        HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(10L, 4, 3, START);
+        wheel.schedule(1L, START + 370L);
+        wheel.schedule(2L, START + 10_000L);
+
+        // when
+        // then
+        assertAll(
+            () -> assertThat(wheel.advance(START + 360L)).isEmpty(),
+            () -> assertThat(wheel.advance(START + 370L)).containsExactly(1L),
+            () -> assertThat(wheel.advance(START + 9_990L)).isEmpty(),
+            () -> assertThat(wheel.advance(START + 10_000L)).containsExactly(2L)
+        );
+    }
+
+    @DisplayName("취소된 키는 만료되지 않는다.")
+    @Test
+    void cancel() {
+        // given
+        HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(10L, 4, 3, START);
+        wheel.schedule(1L, START + 30L);
+
+        // when
+        boolean canceled = wheel.cancel(1L);
+
+        // then
+        assertAll(
+            () -> assertThat(canceled).isTrue(),
+            () -> assertThat(wheel.advance(START + 100L)).isEmpty(),
+            () -> assertThat(wheel.size()).isZero()
+        );
+    }
+
+    @DisplayName("이미 지난 마감 시각은 다음 틱에 만료된다.")
+    @Test
+    void schedule_past_deadline() {
+        // given
+        HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(10L, 4, 3, START);
+        wheel.schedule(1L, START - 1_000L);
+
+        // when
+        // then
+        assertThat(wheel.advance(START + 10L)).containsExactly(1L);
+    }
+
+}
@@ -8,11 +8,22 @@ import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.google.common.base.CaseFormat;
+import com.prgrms.amabnb.common.idempotency.IdempotencyStore;
+import com.prgrms.amabnb.reservation.service.BookingHoldStore;
+import com.prgrms.amabnb.reservation.service.ReservationExpiryService;
+import com.prgrms.amabnb.reservation.service.RoomAvailabilityIndex;
+import com.prgrms.amabnb.reservation.service.RoomCalendarCache;
+import com.prgrms.amabnb.reservation.service.RoomIcsCache;
+import com.prgrms.amabnb.room.service.RoomFacetCache;
+import com.prgrms.amabnb.room.service.RoomKeywordIndex;
+import com.prgrms.amabnb.room.service.RoomPriceCalendar;
+import com.prgrms.amabnb.room.service.RoomSearchIndex;
 
 @Service
 @Profile("test")
@@ -21,6 +32,36 @@ public class DatabaseCleanup implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Autowired
+    private RoomAvailabilityIndex roomAvailabilityIndex;
+
+    @Autowired
+    private ReservationExpiryService reservationExpiryService;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private RoomCalendarCache roomCalendarCache;
+
+    @Autowired
+    private RoomIcsCache roomIcsCache;
+
+    @Autowired
+    private BookingHoldStore bookingHoldStore;
+
+    @Autowired
+    private RoomPriceCalendar roomPriceCalendar;
+
+    @Autowired
+    private RoomSearchIndex roomSearchIndex;
+
+    @Autowired
+    private RoomKeywordIndex roomKeywordIndex;
+
+    @Autowired
+    private RoomFacetCache roomFacetCache;
+
     private List<String> tableNames;
 
     @Override
@@ -45,6 +86,16 @@ public class DatabaseCleanup implements InitializingBean {
         }
 
         entityManager.createNativeQuery("SET FOREIGN_KEY_CHECKS = 1;").executeUpdate();
+        roomAvailabilityIndex.clear();
+        reservationExpiryService.clear();
+        idempotencyStore.clear();
+        roomCalendarCache.clear();
+        roomIcsCache.clear();
+        bookingHoldStore.clear();
+        roomPriceCalendar.clear();
+        roomSearchIndex.clear();
+        roomKeywordIndex.clear();
+        roomFacetCache.clear();
     }
 
 }
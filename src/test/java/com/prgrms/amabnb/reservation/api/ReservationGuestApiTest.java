@@ -16,6 +16,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 import org.apache.http.HttpHeaders;
@@ -38,6 +40,8 @@ import com.prgrms.amabnb.reservation.dto.request.CreateReservationRequest;
 import com.prgrms.amabnb.reservation.dto.request.ReservationUpdateRequest;
 import com.prgrms.amabnb.reservation.dto.response.ReservationDateResponse;
 import com.prgrms.amabnb.reservation.dto.response.ReservationResponseForGuest;
+import com.prgrms.amabnb.reservation.dto.response.RoomAvailabilityResponse;
+import com.prgrms.amabnb.reservation.dto.response.RoomIcsFeedUrlResponse;
 
 class ReservationGuestApiTest extends ApiTest {
 
@@ -89,6 +93,40 @@ class ReservationGuestApiTest extends ApiTest {
 
     }
 
+    @DisplayName("같은 멱등키로 다시 요청하면 새로 예약하지 않고 처음 응답을 돌려준다. 201 - CREATED")
+    @Test
+    void create_reservation_idempotent() throws Exception {
+        // given
+        String accessToken = 로그인_요청("guest");
+        CreateReservationRequest request = createReservationRequest(1, 300_000, roomId);
+
+        // when
+        MockHttpServletResponse first = 멱등_예약_요청(accessToken, "retry-key", request);
+        MockHttpServletResponse second = 멱등_예약_요청(accessToken, "retry-key", request);
+
+        // then
+        assertAll(
+            () -> assertThat(first.getStatus()).isEqualTo(HttpStatus.CREATED.value()),
+            () -> assertThat(second.getStatus()).isEqualTo(HttpStatus.CREATED.value()),
+            () -> assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString())
+        );
+    }
+
+    @DisplayName("같은 멱등키로 본문이 다른 요청을 보내면 예약하지 않는다. 422 - UNPROCESSABLE_ENTITY")
+    @Test
+    void create_reservation_idempotent_other_body() throws Exception {
+        // given
+        String accessToken = 로그인_요청("guest");
+        멱등_예약_요청(accessToken, "retry-key", createReservationRequest(1, 300_000, roomId));
+
+        // when
+        MockHttpServletResponse response = 멱등_예약_요청(accessToken, "retry-key",
+            createReservationRequest(2, 300_000, roomId));
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY.value());
+    }
+
     @DisplayName("로그인을 하지 않고 예약 할 수 없다. 401 - UNAUTHORIZED ")
     @Test
     void create_reservation_not_login() throws Exception {
@@ -222,6 +260,191 @@ class ReservationGuestApiTest extends ApiTest {
         );
     }
 
+    @DisplayName("숙소의 월별 예약 불가능한 날을 런 렝스로 조회한다. 200 - OK")
+    @Test
+    void getMonthAvailability() throws Exception {
+        // given
+        String accessToken = 로그인_요청("guest");
+        YearMonth nextMonth = YearMonth.from(now()).plusMonths(1L);
+        예약_요청(accessToken, CreateReservationRequest.builder()
+            .checkIn(nextMonth.atDay(3))
+            .checkOut(nextMonth.atDay(6))
+            .totalGuest(1)
+            .totalPrice(300_000)
+            .roomId(roomId)
+            .build());
+
+        // when
+        MockHttpServletResponse response = mockMvc.perform(
+                get("/rooms/{roomId}/availability", roomId)
+                    .header(HttpHeaders.AUTHORIZATION, accessToken)
+                    .param("month", nextMonth.toString()))
+            .andDo(print())
+            .andDo(document("reservation-availability",
+                tokenRequestHeader(),
+                pathParameters(
+                    parameterWithName("roomId").description("숙소 아이디")
+                ),
+                requestParameters(
+                    parameterWithName("month").description("조회 월 (yyyy-MM)")
+                ),
+                responseFields(
+                    fieldWithPath("data.month").description("조회 월"),
+                    fieldWithPath("data.startsBlocked").description("첫 구간이 예약 불가능한지 여부"),
+                    fieldWithPath("data.runs").description("1일부터 예약 가능/불가능이 번갈아 이어지는 일 수")
+                )))
+            .andReturn().getResponse();
+
+        // then
+        ApiResponse<RoomAvailabilityResponse> apiResponse = objectMapper.readValue(response.getContentAsString(),
+            new TypeReference<>() {
+            });
+        assertAll(
+            () -> assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value()),
+            () -> assertThat(apiResponse.data().isStartsBlocked()).isFalse(),
+            () -> assertThat(apiResponse.data().getRuns())
+                .containsExactly(2, 3, nextMonth.lengthOfMonth() - 5)
+        );
+    }
+
+    @DisplayName("예약을 취소하면 월별 예약 불가능한 날에서 빠진다. 200 - OK")
+    @Test
+    void getMonthAvailability_after_cancel() throws Exception {
+        // given
+        String accessToken = 로그인_요청("guest");
+        YearMonth month = YearMonth.from(now());
+        Long reservationId = extractId(예약_요청(accessToken, createReservationRequest(3, 300_000, roomId)));
+        월별_예약_현황_조회(accessToken, month);
+        mockMvc.perform(delete("/guest/reservations/{reservationId}", reservationId)
+            .header(HttpHeaders.AUTHORIZATION, accessToken));
+
+        // when
+        RoomAvailabilityResponse availability = 월별_예약_현황_조회(accessToken, month);
+
+        // then
+        assertAll(
+            () -> assertThat(availability.isStartsBlocked()).isFalse(),
+            () -> assertThat(availability.getRuns()).containsExactly(month.lengthOfMonth())
+        );
+    }
+
+    @DisplayName("없는 숙소는 404, 조회 범위를 벗어난 달은 400을 받는다.")
+    @Test
+    void getMonthAvailability_invalid() throws Exception {
+        // given
+        String accessToken = 로그인_요청("guest");
+        YearMonth now = YearMonth.from(now());
+
+        // when
+        int unknownRoom = mockMvc.perform(get("/rooms/{roomId}/availability", roomId + 100)
+                .header(HttpHeaders.AUTHORIZATION, accessToken)
+                .param("month", now.toString()))
+            .andReturn().getResponse().getStatus();
+        int tooFar = mockMvc.perform(get("/rooms/{roomId}/availability", roomId)
+                .header(HttpHeaders.AUTHORIZATION, accessToken)
+                .param("month", now.plusMonths(25).toString()))
+            .andReturn().getResponse().getStatus();
+        int tooOld = mockMvc.perform(get("/rooms/{roomId}/availability", roomId)
+                .header(HttpHeaders.AUTHORIZATION, accessToken)
+                .param("month", now.minusMonths(2).toString()))
+            .andReturn().getResponse().getStatus();
+
+        // then
+        assertAll(
+            () -> assertThat(unknownRoom).isEqualTo(HttpStatus.NOT_FOUND.value()),
+            () -> assertThat(tooFar).isEqualTo(HttpStatus.BAD_REQUEST.value()),
+            () -> assertThat(tooOld).isEqualTo(HttpStatus.BAD_REQUEST.value())
+        );
+    }
+
+    @DisplayName("호스트가 발급한 주소로는 로그인하지 않아도 iCal 피드를 받고, 변경이 없으면 304를 받는다. 200 - OK")
+    @Test
+    void getIcsFeed() throws Exception {
+        // given
+        예약_요청(로그인_요청("guest"), createReservationRequest(3, 300_000, roomId));
+        String feedPath = 피드_주소_발급();
+
+        // when
+        MockHttpServletResponse response = mockMvc.perform(get(feedPath))
+            .andDo(print())
+            .andReturn().getResponse();
+        MockHttpServletResponse notModified = mockMvc.perform(get(feedPath)
+                .header(IF_NONE_MATCH, response.getHeader(ETAG)))
+            .andReturn().getResponse();
+
+        // then
+        assertAll(
+            () -> assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value()),
+            () -> assertThat(response.getContentType()).startsWith("text/calendar"),
+            () -> assertThat(response.getContentAsString())
+                .contains("DTSTART;VALUE=DATE:" + now().format(DateTimeFormatter.BASIC_ISO_DATE))
+                .contains("DTEND;VALUE=DATE:" + now().plusDays(3L).format(DateTimeFormatter.BASIC_ISO_DATE)),
+            () -> assertThat(notModified.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value())
+        );
+    }
+
+    @DisplayName("예약이 취소되면 iCal 피드의 ETag가 바뀐다. 200 - OK")
+    @Test
+    void getIcsFeed_after_cancel() throws Exception {
+        // given
+        String accessToken = 로그인_요청("guest");
+        Long reservationId = extractId(예약_요청(accessToken, createReservationRequest(3, 300_000, roomId)));
+        String feedPath = 피드_주소_발급();
+        String etag = mockMvc.perform(get(feedPath))
+            .andReturn().getResponse().getHeader(ETAG);
+        mockMvc.perform(delete("/guest/reservations/{reservationId}", reservationId)
+            .header(HttpHeaders.AUTHORIZATION, accessToken));
+
+        // when
+        MockHttpServletResponse response = mockMvc.perform(get(feedPath)
+                .header(IF_NONE_MATCH, etag))
+            .andReturn().getResponse();
+
+        // then
+        assertAll(
+            () -> assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value()),
+            () -> assertThat(response.getHeader(ETAG)).isNotEqualTo(etag),
+            () -> assertThat(response.getContentAsString()).doesNotContain("BEGIN:VEVENT")
+        );
+    }
+
+    @DisplayName("피드 주소를 다시 발급하면 캐시된 이전 주소로는 피드를 받을 수 없다. 404 - NOT FOUND")
+    @Test
+    void getIcsFeed_reissued() throws Exception {
+        // given
+        String previousPath = 피드_주소_발급();
+        mockMvc.perform(get(previousPath));
+        String feedPath = 피드_주소_발급();
+
+        // when
+        MockHttpServletResponse previous = mockMvc.perform(get(previousPath))
+            .andReturn().getResponse();
+        MockHttpServletResponse response = mockMvc.perform(get(feedPath))
+            .andReturn().getResponse();
+
+        // then
+        assertAll(
+            () -> assertThat(previous.getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value()),
+            () -> assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value())
+        );
+    }
+
+    @DisplayName("숙소 번호만으로는 iCal 피드를 받을 수 없다. 401 - UNAUTHORIZED")
+    @Test
+    void getIcsFeed_without_token() throws Exception {
+        // when
+        MockHttpServletResponse byRoomId = mockMvc.perform(get("/rooms/{roomId}/calendar.ics", roomId))
+            .andReturn().getResponse();
+        MockHttpServletResponse unknownToken = mockMvc.perform(get("/rooms/ics/{token}.ics", "unknown"))
+            .andReturn().getResponse();
+
+        // then
+        assertAll(
+            () -> assertThat(byRoomId.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value()),
+            () -> assertThat(unknownToken.getStatus()).isEqualTo(HttpStatus.NOT_FOUND.value())
+        );
+    }
+
     @DisplayName("게스트가 예약을 취소한다. 204 - NO CONTENT")
     @Test
     void cancelByGuest() throws Exception {
@@ -370,6 +593,41 @@ class ReservationGuestApiTest extends ApiTest {
                 )));
     }
 
+    private RoomAvailabilityResponse 월별_예약_현황_조회(String accessToken, YearMonth month) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/rooms/{roomId}/availability", roomId)
+                .header(HttpHeaders.AUTHORIZATION, accessToken)
+                .param("month", month.toString()))
+            .andReturn().getResponse();
+        ApiResponse<RoomAvailabilityResponse> apiResponse = objectMapper.readValue(response.getContentAsString(),
+            new TypeReference<>() {
+            });
+        return apiResponse.data();
+    }
+
+    private String 피드_주소_발급() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(post("/host/rooms/{roomId}/calendar-feed", roomId)
+                .header(HttpHeaders.AUTHORIZATION, 로그인_요청("host")))
+            .andReturn().getResponse();
+        ApiResponse<RoomIcsFeedUrlResponse> apiResponse = objectMapper.readValue(response.getContentAsString(),
+            new TypeReference<>() {
+            });
+        return apiResponse.data().getFeedPath();
+    }
+
+    private MockHttpServletResponse 멱등_예약_요청(
+        String accessToken,
+        String idempotencyKey,
+        CreateReservationRequest request
+    ) throws Exception {
+        return mockMvc.perform(post("/reservations")
+                .header(AUTHORIZATION, accessToken)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andDo(print())
+            .andReturn().getResponse();
+    }
+
     private CreateReservationRequest createReservationRequest(int totalGuest, int totalPrice, Long roomId) {
         return CreateReservationRequest.builder()
             .checkIn(now())
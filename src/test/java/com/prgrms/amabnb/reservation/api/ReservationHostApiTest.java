@@ -10,10 +10,13 @@ import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.*;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.List;
 
 import org.apache.http.HttpHeaders;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,12 +26,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.prgrms.amabnb.common.model.ApiResponse;
 import com.prgrms.amabnb.config.ApiTest;
 import com.prgrms.amabnb.reservation.dto.request.CreateReservationRequest;
 import com.prgrms.amabnb.reservation.dto.response.ReservationInfoResponse;
+import com.prgrms.amabnb.room.dto.request.CreateRoomRequest;
+import com.prgrms.amabnb.room.entity.RoomScope;
+import com.prgrms.amabnb.room.entity.RoomType;
 
 class ReservationHostApiTest extends ApiTest {
 
@@ -104,6 +111,71 @@ class ReservationHostApiTest extends ApiTest {
         assertThat(response.getStatus()).isEqualTo(HttpStatus.NO_CONTENT.value());
     }
 
+    @DisplayName("호스트가 예약 내역을 CSV 로 내려받는다. 200 - OK")
+    @Test
+    void exportReservations() throws Exception {
+        // given
+        예약_요청(로그인_요청("guest"), createReservationRequest(3, 300_000, roomId));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/host/reservations/export")
+                .header(HttpHeaders.AUTHORIZATION, hostAccessToken)
+                .param("format", "CSV"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        MockHttpServletResponse response = mockMvc.perform(asyncDispatch(result))
+            .andDo(print())
+            .andReturn().getResponse();
+
+        // then
+        String[] lines = response.getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertAll(
+            () -> assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value()),
+            () -> assertThat(response.getContentType()).startsWith("text/csv"),
+            () -> assertThat(lines).hasSize(2),
+            () -> assertThat(lines[0]).startsWith("id,checkIn,checkOut"),
+            () -> assertThat(lines[1]).contains(PENDING.name())
+        );
+    }
+
+    @DisplayName("CSV 로 내려받을 때 수식으로 시작하는 값은 작은따옴표를 붙여 내보낸다. 200 - OK")
+    @Test
+    void exportReservations_formula() throws Exception {
+        // given
+        CreateRoomRequest formulaRoom = CreateRoomRequest.builder()
+            .name("=1+2")
+            .price(100_000)
+            .description("방설명")
+            .maxGuestNum(10)
+            .zipcode("00000")
+            .address("창원")
+            .detailAddress("의창구")
+            .bedCnt(2)
+            .bedRoomCnt(1)
+            .bathRoomCnt(1)
+            .roomType(RoomType.APARTMENT)
+            .roomScope(RoomScope.PRIVATE)
+            .imagePaths(List.of("test"))
+            .build();
+        Long formulaRoomId = 숙소_등록(hostAccessToken, formulaRoom);
+        예약_요청(로그인_요청("guest"), createReservationRequest(3, 300_000, formulaRoomId));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/host/reservations/export")
+                .header(HttpHeaders.AUTHORIZATION, hostAccessToken)
+                .param("format", "CSV"))
+            .andReturn();
+        MockHttpServletResponse response = mockMvc.perform(asyncDispatch(result))
+            .andReturn().getResponse();
+
+        // then
+        String[] lines = response.getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertAll(
+            () -> assertThat(lines).hasSize(2),
+            () -> assertThat(lines[1]).contains(",'=1+2,")
+        );
+    }
+
     @DisplayName("호스트가 예약 정보를 단건 조회한다. 200 - OK")
     @Test
     void getReservation() throws Exception {
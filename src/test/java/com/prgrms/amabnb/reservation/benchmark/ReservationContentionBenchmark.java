@@ -0,0 +1,257 @@
+package com.prgrms.amabnb.reservation.benchmark;
+
+import static com.prgrms.amabnb.config.util.Fixture.*;
+import static java.time.LocalDate.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.prgrms.amabnb.config.ApiTest;
+import com.prgrms.amabnb.reservation.dto.request.CreateReservationRequest;
+import com.prgrms.amabnb.reservation.dto.response.ReservationStayDto;
+import com.prgrms.amabnb.reservation.entity.Reservation;
+import com.prgrms.amabnb.reservation.exception.AlreadyReservationRoomException;
+import com.prgrms.amabnb.reservation.repository.ReservationRepository;
+import com.prgrms.amabnb.reservation.service.ReservationGuestService;
+import com.prgrms.amabnb.room.entity.Room;
+import com.prgrms.amabnb.room.exception.RoomNotFoundException;
+import com.prgrms.amabnb.room.repository.RoomRepository;
+import com.prgrms.amabnb.user.entity.User;
+import com.prgrms.amabnb.user.exception.UserNotFoundException;
+import com.prgrms.amabnb.user.repository.UserRepository;
+
+@Tag("benchmark")
+class ReservationContentionBenchmark extends ApiTest {
+
+    private static final Path REPORT_PATH = Path.of("build", "reports", "benchmark", "reservation-contention.json");
+    private static final int ROOM_PRICE = 10_000;
+    private static final int MAX_NIGHTS = 3;
+
+    private final int requests = Integer.getInteger("benchmark.requests", 2_000);
+    private final int threads = Integer.getInteger("benchmark.threads", 32);
+    private final int hotRooms = Integer.getInteger("benchmark.rooms", 4);
+    private final int guests = Integer.getInteger("benchmark.guests", 50);
+    private final int horizonDays = Integer.getInteger("benchmark.horizon-days", 30);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationGuestService reservationGuestService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DisplayName("인기 숙소에 동시 예약 요청을 보내고 충돌 처리 방식별 결과를 JSON 으로 기록한다.")
+    @Test
+    void reservationContention() throws Exception {
+        // given
+        Map<String, BookingStrategy> strategies = new LinkedHashMap<>();
+        strategies.put("ledger", reservationGuestService::createReservation);
+        strategies.put("check-then-insert", this::checkThenInsert);
+        List<BenchmarkResult> results = new ArrayList<>();
+
+        // when
+        for (Map.Entry<String, BookingStrategy> strategy : strategies.entrySet()) {
+            databaseCleanup.execute();
+            results.add(run(strategy.getKey(), strategy.getValue()));
+        }
+        writeReport(results);
+
+        // then
+        assertThat(results).allSatisfy(result ->
+            assertThat(result.successes() + result.conflicts() + result.errors()).isEqualTo(requests)
+        );
+    }
+
+    private BenchmarkResult run(String strategy, BookingStrategy bookingStrategy) throws InterruptedException {
+        List<Long> roomIds = saveHotRooms();
+        List<Long> guestIds = saveGuests();
+        long[] latencies = new long[requests];
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            executor.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                Long guestId = guestIds.get(random.nextInt(guestIds.size()));
+                CreateReservationRequest request = randomRequest(roomIds.get(random.nextInt(roomIds.size())));
+                try {
+                    start.await();
+                    long begin = System.nanoTime();
+                    try {
+                        bookingStrategy.book(guestId, request);
+                        successes.incrementAndGet();
+                    } catch (AlreadyReservationRoomException e) {
+                        conflicts.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - begin;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - begin;
+        executor.shutdown();
+
+        Arrays.sort(latencies);
+        return new BenchmarkResult(
+            strategy,
+            threads,
+            requests,
+            hotRooms,
+            toMillis(elapsedNanos),
+            requests / (elapsedNanos / 1_000_000_000.0),
+            toMillis(percentile(latencies, 0.50)),
+            toMillis(percentile(latencies, 0.99)),
+            toMillis(latencies[latencies.length - 1]),
+            successes.get(),
+            conflicts.get(),
+            errors.get(),
+            (double)conflicts.get() / requests,
+            countDoubleBookings()
+        );
+    }
+
+    private void checkThenInsert(Long guestId, CreateReservationRequest request) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Room room = roomRepository.findRoomWithHostById(request.getRoomId())
+                .orElseThrow(RoomNotFoundException::new);
+            User guest = userRepository.findById(guestId)
+                .orElseThrow(UserNotFoundException::new);
+            Reservation reservation = request.toEntity(room, guest);
+            if (reservationRepository.existReservationByRoom(room, null, reservation.getReservationDate())) {
+                throw new AlreadyReservationRoomException();
+            }
+            reservationRepository.save(reservation);
+        });
+    }
+
+    private long countDoubleBookings() {
+        Map<Long, List<ReservationStayDto>> staysByRoom = reservationRepository
+            .findActiveStaysAfter(null, now(), Integer.MAX_VALUE)
+            .stream()
+            .collect(Collectors.groupingBy(ReservationStayDto::getRoomId));
+
+        long doubleBookings = 0;
+        for (List<ReservationStayDto> stays : staysByRoom.values()) {
+            stays.sort(Comparator.comparing(ReservationStayDto::getCheckIn));
+            ReservationStayDto latest = null;
+            for (ReservationStayDto stay : stays) {
+                if (latest != null && stay.getCheckIn().isBefore(latest.getCheckOut())) {
+                    doubleBookings++;
+                }
+                if (latest == null || stay.getCheckOut().isAfter(latest.getCheckOut())) {
+                    latest = stay;
+                }
+            }
+        }
+        return doubleBookings;
+    }
+
+    private CreateReservationRequest randomRequest(Long roomId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int nights = random.nextInt(1, MAX_NIGHTS + 1);
+        int checkInAfter = random.nextInt(horizonDays);
+        return CreateReservationRequest.builder()
+            .checkIn(now().plusDays(checkInAfter))
+            .checkOut(now().plusDays(checkInAfter + nights))
+            .totalGuest(1)
+            .totalPrice(ROOM_PRICE * nights)
+            .roomId(roomId)
+            .build();
+    }
+
+    private List<Long> saveHotRooms() {
+        User host = userRepository.save(createUser("host"));
+        return IntStream.range(0, hotRooms)
+            .mapToObj(i -> roomRepository.save(createRoom(host)).getId())
+            .toList();
+    }
+
+    private List<Long> saveGuests() {
+        return IntStream.range(0, guests)
+            .mapToObj(i -> userRepository.save(createUser("guest" + i)).getId())
+            .toList();
+    }
+
+    private void writeReport(List<BenchmarkResult> results) throws IOException {
+        Files.createDirectories(REPORT_PATH.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT_PATH.toFile(), results);
+    }
+
+    private long percentile(long[] sortedLatencies, double percentile) {
+        int index = (int)Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)];
+    }
+
+    private double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    @FunctionalInterface
+    private interface BookingStrategy {
+        void book(Long guestId, CreateReservationRequest request);
+    }
+
+    record BenchmarkResult(
+        String strategy,
+        int threads,
+        int requests,
+        int hotRooms,
+        double elapsedMillis,
+        double throughputPerSecond,
+        double p50LatencyMillis,
+        double p99LatencyMillis,
+        double maxLatencyMillis,
+        int successes,
+        int conflicts,
+        int errors,
+        double conflictRate,
+        long doubleBookings
+    ) {
+    }
+
+}
@@ -49,6 +49,8 @@ class ReservationRepositoryTest extends RepositoryTest {
     private static Stream<Arguments> provideReservationDate() {
         return Stream.of(
             Arguments.of(now(), now().plusDays(3L), true),
+            Arguments.of(now().plusDays(1L), now().plusDays(2L), true),
+            Arguments.of(now().plusDays(4L), now().plusDays(8L), true),
             Arguments.of(now().plusDays(5L), now().plusDays(10L), false),
             Arguments.of(now().plusDays(5L), now().plusDays(10L), false)
         );
@@ -100,6 +102,22 @@ class ReservationRepositoryTest extends RepositoryTest {
         );
     }
 
+    @DisplayName("조회 시작 전에 체크인한 예약도 예약 불가능 기간에 포함한다.")
+    @Test
+    void findImpossibleReservationDate_started_before() {
+        // given
+        LocalDate now = now();
+        createReservation(guest, new ReservationDate(now.plusDays(2L), now.plusDays(6L)));
+
+        // when
+        List<ReservationDateResponse> result = reservationRepository.findReservationDates(room.getId(),
+            now.plusDays(4L), now.plusDays(10L));
+
+        // then
+        assertThat(result).extracting("checkIn", "checkOut")
+            .containsExactly(tuple(now.plusDays(2L), now.plusDays(5L)));
+    }
+
     @DisplayName("게스트가 예약 정보들을 조회한다.")
     @Test
     void findReservationByGuestAndStatus() {
@@ -113,7 +131,7 @@ class ReservationRepositoryTest extends RepositoryTest {
 
         // when
         List<ReservationDto> reservations = reservationRepository.findReservationsByGuestAndStatus(
-            lastReservationId, pageSize, guest, PENDING);
+            lastReservationId, pageSize, guest.getId(), PENDING);
 
         // then
         assertAll(
@@ -135,7 +153,7 @@ class ReservationRepositoryTest extends RepositoryTest {
 
         // when
         List<ReservationDto> reservations = reservationRepository.findReservationsByHostAndStatus(
-            lastReservationId, pageSize, host, null);
+            lastReservationId, pageSize, host.getId(), null);
 
         // then
         assertThat(reservations).hasSize(pageSize);
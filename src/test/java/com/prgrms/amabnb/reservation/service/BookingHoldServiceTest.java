@@ -0,0 +1,116 @@
+package com.prgrms.amabnb.reservation.service;
+
+import static com.prgrms.amabnb.config.util.Fixture.*;
+import static java.time.LocalDate.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.prgrms.amabnb.config.ApiTest;
+import com.prgrms.amabnb.reservation.dto.request.CreateBookingHoldRequest;
+import com.prgrms.amabnb.reservation.dto.request.CreateReservationRequest;
+import com.prgrms.amabnb.reservation.exception.AlreadyReservationRoomException;
+import com.prgrms.amabnb.reservation.exception.BookingHoldConflictException;
+import com.prgrms.amabnb.reservation.exception.ReservationInvalidValueException;
+import com.prgrms.amabnb.room.entity.Room;
+import com.prgrms.amabnb.room.repository.RoomRepository;
+import com.prgrms.amabnb.user.entity.User;
+import com.prgrms.amabnb.user.repository.UserRepository;
+
+class BookingHoldServiceTest extends ApiTest {
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookingHoldService bookingHoldService;
+
+    @Autowired
+    private BookingHoldStore bookingHoldStore;
+
+    @Autowired
+    private ReservationGuestService reservationGuestService;
+
+    private User guest;
+    private User otherGuest;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        guest = userRepository.save(createUser("guest"));
+        otherGuest = userRepository.save(createUser("otherGuest"));
+        User host = userRepository.save(createUser("host"));
+        room = roomRepository.save(createRoom(host));
+    }
+
+    @DisplayName("다른 게스트가 홀드한 기간은 예약할 수 없고, 홀드한 게스트의 예약은 홀드를 소진한다.")
+    @Test
+    void hold() {
+        // given
+        bookingHoldService.hold(guest.getId(), createBookingHoldRequest());
+
+        // when
+        // then
+        assertAll(
+            () -> assertThatThrownBy(() -> reservationGuestService.createReservation(otherGuest.getId(),
+                createReservationRequest())).isInstanceOf(BookingHoldConflictException.class),
+            () -> assertThat(reservationGuestService.createReservation(guest.getId(), createReservationRequest()))
+                .isNotNull(),
+            () -> assertThat(bookingHoldStore.size()).isZero()
+        );
+    }
+
+    @DisplayName("이미 예약된 기간은 홀드할 수 없다.")
+    @Test
+    void hold_already_reserved() {
+        // given
+        reservationGuestService.createReservation(guest.getId(), createReservationRequest());
+
+        // when
+        // then
+        assertThatThrownBy(() -> bookingHoldService.hold(otherGuest.getId(), createBookingHoldRequest()))
+            .isInstanceOf(AlreadyReservationRoomException.class);
+    }
+
+    @DisplayName("최대 숙박 일수보다 긴 기간은 홀드할 수 없다.")
+    @Test
+    void hold_too_many_nights() {
+        // given
+        CreateBookingHoldRequest request = CreateBookingHoldRequest.builder()
+            .checkIn(now())
+            .checkOut(now().plusDays(31))
+            .roomId(room.getId())
+            .build();
+
+        // when
+        // then
+        assertThatThrownBy(() -> bookingHoldService.hold(guest.getId(), request))
+            .isInstanceOf(ReservationInvalidValueException.class);
+    }
+
+    private CreateBookingHoldRequest createBookingHoldRequest() {
+        return CreateBookingHoldRequest.builder()
+            .checkIn(now())
+            .checkOut(now().plusDays(2))
+            .roomId(room.getId())
+            .build();
+    }
+
+    private CreateReservationRequest createReservationRequest() {
+        return CreateReservationRequest.builder()
+            .checkIn(now())
+            .checkOut(now().plusDays(2))
+            .totalGuest(1)
+            .totalPrice(20_000)
+            .roomId(room.getId())
+            .build();
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.prgrms.amabnb.reservation.service;
+
+import static java.time.LocalDate.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prgrms.amabnb.reservation.exception.BookingHoldConflictException;
+import com.prgrms.amabnb.reservation.exception.BookingHoldLimitExceededException;
+
+class BookingHoldStoreTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final long TTL = 600_000L;
+    private static final long COOLDOWN = 1_800_000L;
+    private static final Long ROOM_ID = 1L;
+    private static final Long GUEST_ID = 1L;
+    private static final Long OTHER_GUEST_ID = 2L;
+
+    private final BookingHoldStore bookingHoldStore = new BookingHoldStore(2, 1,
+        Duration.ofMillis(COOLDOWN));
+
+    @DisplayName("다른 게스트가 잡아 둔 기간과 겹치면 홀드할 수 없다.")
+    @Test
+    void hold_conflict() {
+        // given
+        bookingHoldStore.hold(ROOM_ID, GUEST_ID, now(), now().plusDays(3), NOW, TTL);
+
+        // when
+        // then
+        assertAll(
+            () -> assertThatThrownBy(() -> bookingHoldStore.hold(ROOM_ID, OTHER_GUEST_ID, now().plusDays(2),
+                now().plusDays(4), NOW, TTL)).isInstanceOf(BookingHoldConflictException.class),
+            () -> assertThat(bookingHoldStore.hold(ROOM_ID, OTHER_GUEST_ID, now().plusDays(3), now().plusDays(4),
+                NOW, TTL)).isNotNull(),
+            () -> assertThat(bookingHoldStore.isHeldByOther(ROOM_ID, GUEST_ID, now(), now().plusDays(1), NOW))
+                .isFalse()
+        );
+    }
+
+    @DisplayName("같은 게스트가 다시 홀드하면 기존 홀드를 대체한다.")
+    @Test
+    void hold_replace() {
+        // given
+        bookingHoldStore.hold(ROOM_ID, GUEST_ID, now(), now().plusDays(3), NOW, TTL);
+
+        // when
+        bookingHoldStore.hold(ROOM_ID, GUEST_ID, now().plusDays(5), now().plusDays(6), NOW, TTL);
+
+        // then
+        assertAll(
+            () -> assertThat(bookingHoldStore.size()).isOne(),
+            () -> assertThat(bookingHoldStore.isHeldByOther(ROOM_ID, OTHER_GUEST_ID, now(), now().plusDays(3), NOW))
+                .isFalse()
+        );
+    }
+
+    @DisplayName("한 게스트가 동시에 홀드할 수 있는 숙소 수를 넘기면 홀드할 수 없다.")
+    @Test
+    void hold_quota() {
+        // given
+        bookingHoldStore.hold(1L, GUEST_ID, now(), now().plusDays(1), NOW, TTL);
+        bookingHoldStore.hold(2L, GUEST_ID, now(), now().plusDays(1), NOW, TTL);
+
+        // when
+        // then
+        assertAll(
+            () -> assertThatThrownBy(() -> bookingHoldStore.hold(3L, GUEST_ID, now(), now().plusDays(1), NOW, TTL))
+                .isInstanceOf(BookingHoldLimitExceededException.class),
+            () -> assertThat(bookingHoldStore.hold(3L, GUEST_ID, now(), now().plusDays(1), NOW + TTL, TTL))
+                .isNotNull()
+        );
+    }
+
+    @DisplayName("같은 숙소의 홀드는 정해진 횟수까지만 연장할 수 있다.")
+    @Test
+    void hold_renewal_limit() {
+        // given
+        bookingHoldStore.hold(ROOM_ID, GUEST_ID, now(), now().plusDays(1), NOW, TTL);
+
+        // when
+        BookingHold renewed = bookingHoldStore.hold(ROOM_ID, GUEST_ID, now(), now().plusDays(1), NOW + 1, TTL);
+
+        // then
+        assertAll(
+            () -> assertThat(renewed.renewals()).isOne(),
+            () -> assertThatThrownBy(() -> bookingHoldStore.hold(ROOM_ID, GUEST_ID, now(), now().plusDays(1),
+                NOW + 2, TTL)).isInstanceOf(BookingHoldLimitExceededException.class)
+        );
+    }
+
+    @DisplayName("홀드가 만료되어도 대기 시간이 지나기 전에는 연장 횟수가 초기화되지 않는다.")
+    @Test
+    void hold_renewal_limit_after_expiry() {
+        // given
+        bookingHoldStore.hold(ROOM_ID, GUEST_ID, now(), now().plusDays(1), NOW, TTL);
+        BookingHold renewed = bookingHoldStore.hold(ROOM_ID, GUEST_ID, now(), now().plusDays(1), NOW + 1, TTL);
+        long expiredAt = renewed.expiresAtMillis();
+
+        // when
+        bookingHoldStore.sweep(expiredAt);
+
+        // then
+        assertAll(
+            () -> assertThatThrownBy(() -> bookingHoldStore.hold(ROOM_ID, GUEST_ID, now(), now().plusDays(1),
+                expiredAt + 1, TTL)).isInstanceOf(BookingHoldLimitExceededException.class),
+            () -> assertThat(bookingHoldStore.hold(ROOM_ID, GUEST_ID, now(), now().plusDays(1),
+                expiredAt + COOLDOWN, TTL).renewals()).isZero()
+        );
+    }
+
+    @DisplayName("만료된 홀드는 예약을 막지 않고 스윕 시 제거된다.")
+    @Test
+    void sweep() {
+        // given
+        BookingHold released = bookingHoldStore.hold(ROOM_ID, GUEST_ID, now(), now().plusDays(1), NOW, TTL);
+        bookingHoldStore.release(released.id(), GUEST_ID);
+        bookingHoldStore.hold(2L, GUEST_ID, now(), now().plusDays(1), NOW, TTL);
+        bookingHoldStore.hold(3L, GUEST_ID, now(), now().plusDays(1), NOW + TTL, TTL);
+
+        // when
+        boolean heldAfterExpiry = bookingHoldStore.isHeldByOther(2L, OTHER_GUEST_ID, now(), now().plusDays(1),
+            NOW + TTL);
+        int swept = bookingHoldStore.sweep(NOW + TTL);
+
+        // then
+        assertAll(
+            () -> assertThat(heldAfterExpiry).isFalse(),
+            () -> assertThat(swept).isOne(),
+            () -> assertThat(bookingHoldStore.size()).isOne()
+        );
+    }
+
+    @DisplayName("다른 게스트의 홀드는 해제할 수 없다.")
+    @Test
+    void release_other_guest() {
+        // given
+        BookingHold hold = bookingHoldStore.hold(ROOM_ID, GUEST_ID, now(), now().plusDays(1), NOW, TTL);
+
+        // when
+        // then
+        assertAll(
+            () -> assertThat(bookingHoldStore.release(hold.id(), OTHER_GUEST_ID)).isFalse(),
+            () -> assertThat(bookingHoldStore.release(hold.id(), GUEST_ID)).isTrue()
+        );
+    }
+
+}
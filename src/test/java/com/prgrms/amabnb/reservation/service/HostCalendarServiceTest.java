@@ -0,0 +1,117 @@
+package com.prgrms.amabnb.reservation.service;
+
+import static com.prgrms.amabnb.config.util.Fixture.*;
+import static com.prgrms.amabnb.reservation.entity.ReservationStatus.*;
+import static java.time.LocalDate.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.BitSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.prgrms.amabnb.common.vo.Money;
+import com.prgrms.amabnb.config.ApiTest;
+import com.prgrms.amabnb.reservation.dto.request.HostCalendarRequest;
+import com.prgrms.amabnb.reservation.dto.response.HostCalendarResponse;
+import com.prgrms.amabnb.reservation.entity.Reservation;
+import com.prgrms.amabnb.reservation.entity.ReservationStatus;
+import com.prgrms.amabnb.reservation.entity.vo.ReservationDate;
+import com.prgrms.amabnb.reservation.exception.ReservationInvalidValueException;
+import com.prgrms.amabnb.reservation.repository.ReservationRepository;
+import com.prgrms.amabnb.room.entity.Room;
+import com.prgrms.amabnb.room.repository.RoomRepository;
+import com.prgrms.amabnb.user.entity.User;
+import com.prgrms.amabnb.user.repository.UserRepository;
+
+class HostCalendarServiceTest extends ApiTest {
+
+    @Autowired
+    private HostCalendarService hostCalendarService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User guest;
+    private User host;
+
+    @BeforeEach
+    void setUp() {
+        guest = userRepository.save(createUser("guest"));
+        host = userRepository.save(createUser("host"));
+    }
+
+    @DisplayName("호스트의 숙소별 예약 점유 현황을 한 번에 조회한다.")
+    @Test
+    void getCalendar() {
+        // given
+        LocalDate startDate = now().plusDays(10L);
+        Room first = roomRepository.save(createRoom(host));
+        Room second = roomRepository.save(createRoom(host));
+        Long pendingId = saveReservation(first, startDate.plusDays(1L), startDate.plusDays(3L), PENDING).getId();
+        saveReservation(first, startDate.plusDays(4L), startDate.plusDays(5L), GUEST_CANCELED);
+        Long approvedId = saveReservation(second, startDate.minusDays(2L), startDate.plusDays(1L), APPROVED).getId();
+
+        // when
+        HostCalendarResponse response = hostCalendarService.getCalendar(host.getId(),
+            new HostCalendarRequest(startDate, startDate.plusDays(6L)));
+
+        // then
+        HostCalendarResponse.RoomCalendar firstCalendar = response.getRooms().get(0);
+        HostCalendarResponse.RoomCalendar secondCalendar = response.getRooms().get(1);
+        assertAll(
+            () -> assertThat(response.getDays()).isEqualTo(7),
+            () -> assertThat(response.getRooms()).extracting("roomId").containsExactly(first.getId(), second.getId()),
+            () -> assertThat(decode(firstCalendar)).isEqualTo(nights(1, 3)),
+            () -> assertThat(firstCalendar.getReservations()).extracting("reservationId", "reservationStatus")
+                .containsExactly(tuple(pendingId, PENDING)),
+            () -> assertThat(decode(secondCalendar)).isEqualTo(nights(0, 1)),
+            () -> assertThat(secondCalendar.getReservations()).extracting("reservationId", "reservationStatus")
+                .containsExactly(tuple(approvedId, APPROVED))
+        );
+    }
+
+    @DisplayName("조회 종료일이 시작일보다 앞서면 캘린더를 조회할 수 없다.")
+    @Test
+    void getCalendar_invalid_window() {
+        // given
+        HostCalendarRequest request = new HostCalendarRequest(now().plusDays(3L), now());
+
+        // when, then
+        assertThatThrownBy(() -> hostCalendarService.getCalendar(host.getId(), request))
+            .isInstanceOf(ReservationInvalidValueException.class);
+    }
+
+    private BitSet decode(HostCalendarResponse.RoomCalendar calendar) {
+        return BitSet.valueOf(Base64.getDecoder().decode(calendar.getOccupiedNights()));
+    }
+
+    private BitSet nights(int from, int to) {
+        BitSet nights = new BitSet();
+        nights.set(from, to);
+        return nights;
+    }
+
+    private Reservation saveReservation(Room room, LocalDate checkIn, LocalDate checkOut, ReservationStatus status) {
+        return reservationRepository.save(Reservation.builder()
+            .room(room)
+            .guest(guest)
+            .reservationStatus(status)
+            .totalPrice(new Money(20_000))
+            .totalGuest(1)
+            .reservationDate(new ReservationDate(checkIn, checkOut))
+            .build());
+    }
+
+}
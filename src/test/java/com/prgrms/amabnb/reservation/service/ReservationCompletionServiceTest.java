@@ -0,0 +1,90 @@
+package com.prgrms.amabnb.reservation.service;
+
+import static com.prgrms.amabnb.config.util.Fixture.*;
+import static com.prgrms.amabnb.reservation.entity.ReservationStatus.*;
+import static java.time.LocalDate.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.prgrms.amabnb.config.ApiTest;
+import com.prgrms.amabnb.reservation.entity.Reservation;
+import com.prgrms.amabnb.reservation.entity.ReservationStatus;
+import com.prgrms.amabnb.reservation.entity.vo.ReservationDate;
+import com.prgrms.amabnb.reservation.repository.ReservationRepository;
+import com.prgrms.amabnb.room.entity.Room;
+import com.prgrms.amabnb.room.repository.RoomRepository;
+import com.prgrms.amabnb.user.entity.User;
+import com.prgrms.amabnb.user.repository.UserRepository;
+
+class ReservationCompletionServiceTest extends ApiTest {
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationCompletionService reservationCompletionService;
+
+    private User guest;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        guest = userRepository.save(createUser("guest"));
+        User host = userRepository.save(createUser("host"));
+        room = roomRepository.save(createRoom(host));
+    }
+
+    @DisplayName("체크아웃이 지난 승인된 예약을 완료 상태로 변경한다.")
+    @Test
+    void complete() {
+        // given
+        List<Long> approvedIds = IntStream.range(0, 3)
+            .mapToObj(i -> reservationRepository.save(createReservation(APPROVED, 1)).getId())
+            .toList();
+        Long pendingId = reservationRepository.save(createReservation(PENDING, 1)).getId();
+        Long notFinishedId = reservationRepository.save(createReservation(APPROVED, 5)).getId();
+
+        // when
+        int completed = reservationCompletionService.complete(now().plusDays(1));
+
+        // then
+        assertAll(
+            () -> assertThat(completed).isEqualTo(3),
+            () -> assertThat(reservationRepository.findAllById(approvedIds))
+                .extracting(Reservation::getReservationStatus)
+                .containsOnly(COMPLETED),
+            () -> assertThat(findStatus(pendingId)).isEqualTo(PENDING),
+            () -> assertThat(findStatus(notFinishedId)).isEqualTo(APPROVED)
+        );
+    }
+
+    private Reservation createReservation(ReservationStatus status, long nights) {
+        return Reservation.builder()
+            .room(room)
+            .guest(guest)
+            .totalPrice(room.getPrice())
+            .totalGuest(1)
+            .reservationDate(new ReservationDate(now(), now().plusDays(nights)))
+            .reservationStatus(status)
+            .build();
+    }
+
+    private ReservationStatus findStatus(Long reservationId) {
+        return reservationRepository.findById(reservationId).orElseThrow().getReservationStatus();
+    }
+
+}
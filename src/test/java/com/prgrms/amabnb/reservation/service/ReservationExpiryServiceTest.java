@@ -0,0 +1,179 @@
+package com.prgrms.amabnb.reservation.service;
+
+import static com.prgrms.amabnb.config.util.Fixture.*;
+import static com.prgrms.amabnb.reservation.entity.ReservationStatus.*;
+import static java.time.LocalDate.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import com.prgrms.amabnb.common.outbox.OutboxEventPublisher;
+import com.prgrms.amabnb.config.ApiTest;
+import com.prgrms.amabnb.reservation.dto.request.CreateReservationRequest;
+import com.prgrms.amabnb.reservation.dto.response.ReservationResponseForGuest;
+import com.prgrms.amabnb.reservation.entity.Reservation;
+import com.prgrms.amabnb.reservation.repository.ReservationNightRepository;
+import com.prgrms.amabnb.reservation.repository.ReservationRepository;
+import com.prgrms.amabnb.room.entity.Room;
+import com.prgrms.amabnb.room.repository.RoomRepository;
+import com.prgrms.amabnb.user.entity.User;
+import com.prgrms.amabnb.user.repository.UserRepository;
+
+class ReservationExpiryServiceTest extends ApiTest {
+
+    private static final long AFTER_DEADLINE = Duration.ofHours(25).toMillis();
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationNightRepository reservationNightRepository;
+
+    @Autowired
+    private ReservationGuestService reservationGuestService;
+
+    @Autowired
+    private ReservationHostService reservationHostService;
+
+    @Autowired
+    private ReservationExpiryService reservationExpiryService;
+
+    @Autowired
+    private RoomAvailabilityService roomAvailabilityService;
+
+    @Autowired
+    private ReservationStatusCountService reservationStatusCountService;
+
+    @Autowired
+    private OutboxEventPublisher outboxEventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User guest;
+    private User host;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        guest = userRepository.save(createUser("guest"));
+        host = userRepository.save(createUser("host"));
+        room = roomRepository.save(createRoom(host));
+    }
+
+    @DisplayName("승인 기한이 지난 대기 중인 예약은 취소되고 숙박일이 해제된다.")
+    @Test
+    void expire_overdue_pending_reservation() {
+        // given
+        ReservationResponseForGuest reservation = reservationGuestService.createReservation(
+            guest.getId(), createReservationRequest());
+
+        // when
+        int expired = reservationExpiryService.expireOverdue(System.currentTimeMillis() + AFTER_DEADLINE);
+
+        // then
+        assertAll(
+            () -> assertThat(expired).isOne(),
+            () -> assertThat(reservationRepository.findById(reservation.getReservation().getId()).orElseThrow().getReservationStatus())
+                .isEqualTo(HOST_CANCELED),
+            () -> assertThat(reservationNightRepository.count()).isZero()
+        );
+    }
+
+    @DisplayName("기한 안에 승인된 예약은 만료되지 않는다.")
+    @Test
+    void approved_reservation_not_expired() {
+        // given
+        ReservationResponseForGuest reservation = reservationGuestService.createReservation(
+            guest.getId(), createReservationRequest());
+        reservationHostService.approve(host.getId(), reservation.getReservation().getId());
+
+        // when
+        int expired = reservationExpiryService.expireOverdue(System.currentTimeMillis() + AFTER_DEADLINE);
+
+        // then
+        assertAll(
+            () -> assertThat(expired).isZero(),
+            () -> assertThat(reservationRepository.findById(reservation.getReservation().getId()).orElseThrow().getReservationStatus())
+                .isEqualTo(APPROVED)
+        );
+    }
+
+    @DisplayName("만료 처리 중 예외가 발생하면 다음 틱에 다시 만료를 시도한다.")
+    @Test
+    void expire_retry_after_failure() {
+        // given
+        ReservationExpiryService expiryService = new ReservationExpiryService(reservationRepository,
+            roomAvailabilityService, reservationStatusCountService, outboxEventPublisher,
+            failingOnce(transactionManager), Duration.ofHours(24));
+        Long reservationId = reservationGuestService.createReservation(guest.getId(), createReservationRequest())
+            .getReservation()
+            .getId();
+        Reservation reservation = reservationRepository.findById(reservationId).orElseThrow();
+        expiryService.schedule(reservation);
+        long afterDeadline = System.currentTimeMillis() + AFTER_DEADLINE;
+
+        // when
+        int failed = expiryService.expireOverdue(afterDeadline);
+        int retried = expiryService.expireOverdue(afterDeadline + 1_000L);
+
+        // then
+        assertAll(
+            () -> assertThat(failed).isZero(),
+            () -> assertThat(retried).isOne(),
+            () -> assertThat(reservationRepository.findById(reservationId).orElseThrow().getReservationStatus())
+                .isEqualTo(HOST_CANCELED)
+        );
+    }
+
+    private PlatformTransactionManager failingOnce(PlatformTransactionManager delegate) {
+        AtomicBoolean failed = new AtomicBoolean();
+        return new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                if (failed.compareAndSet(false, true)) {
+                    throw new CannotCreateTransactionException("커넥션을 얻을 수 없습니다.");
+                }
+                return delegate.getTransaction(definition);
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                delegate.commit(status);
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                delegate.rollback(status);
+            }
+        };
+    }
+
+    private CreateReservationRequest createReservationRequest() {
+        return CreateReservationRequest.builder()
+            .checkIn(now())
+            .checkOut(now().plusDays(3L))
+            .totalGuest(3)
+            .totalPrice(30_000)
+            .roomId(room.getId())
+            .build();
+    }
+
+}
@@ -5,13 +5,17 @@ import static com.prgrms.amabnb.reservation.entity.ReservationStatus.*;
 import static java.time.LocalDate.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 
 import com.prgrms.amabnb.config.ApiTest;
 import com.prgrms.amabnb.reservation.dto.request.CreateReservationRequest;
@@ -26,10 +30,12 @@ import com.prgrms.amabnb.reservation.entity.ReservationStatus;
 import com.prgrms.amabnb.reservation.exception.AlreadyReservationRoomException;
 import com.prgrms.amabnb.reservation.exception.ReservationInvalidValueException;
 import com.prgrms.amabnb.reservation.exception.ReservationNotHavePermissionException;
+import com.prgrms.amabnb.reservation.repository.ReservationNightRepository;
 import com.prgrms.amabnb.reservation.repository.ReservationRepository;
 import com.prgrms.amabnb.room.entity.Room;
 import com.prgrms.amabnb.room.exception.RoomNotFoundException;
 import com.prgrms.amabnb.room.repository.RoomRepository;
+import com.prgrms.amabnb.room.service.RoomPriceService;
 import com.prgrms.amabnb.user.entity.User;
 import com.prgrms.amabnb.user.exception.UserNotFoundException;
 import com.prgrms.amabnb.user.repository.UserRepository;
@@ -45,9 +51,18 @@ class ReservationGuestServiceTest extends ApiTest {
     @Autowired
     private ReservationRepository reservationRepository;
 
+    @Autowired
+    private ReservationNightRepository reservationNightRepository;
+
+    @Autowired
+    private RoomAvailabilityIndex roomAvailabilityIndex;
+
     @Autowired
     private ReservationGuestService reservationGuestService;
 
+    @SpyBean
+    private RoomPriceService roomPriceService;
+
     private User guest;
 
     private Room room;
@@ -103,6 +118,28 @@ class ReservationGuestServiceTest extends ApiTest {
             .hasMessage("숙소의 최대 인원을 넘을 수 없습니다.");
     }
 
+    @DisplayName("최대 숙박일 수를 넘는 예약은 생성할 수 없다.")
+    @Test
+    void create_reservation_too_many_nights() {
+        // given
+        CreateReservationRequest request = CreateReservationRequest.builder()
+            .checkIn(now())
+            .checkOut(now().plusDays(31L))
+            .totalGuest(3)
+            .totalPrice(310_000)
+            .roomId(room.getId())
+            .build();
+
+        // when
+        // then
+        assertAll(
+            () -> assertThatThrownBy(() -> reservationGuestService.createReservation(guest.getId(), request))
+                .isInstanceOf(ReservationInvalidValueException.class)
+                .hasMessage("한 번에 30박까지만 예약할 수 있습니다."),
+            () -> assertThat(reservationNightRepository.count()).isZero()
+        );
+    }
+
     @DisplayName("예약 기간에 이미 예약된 숙소라면 예외를 발생한다.")
     @Test
     void create_reservation_already_reserved_room() {
@@ -117,6 +154,44 @@ class ReservationGuestServiceTest extends ApiTest {
             .hasMessage("해당 숙소가 이미 예약된 기간입니다.");
     }
 
+    @DisplayName("예약 가능 인덱스가 놓친 중복 예약도 예약 숙박일 유니크 키로 막는다.")
+    @Test
+    void create_reservation_already_reserved_night() {
+        // given
+        CreateReservationRequest request = createReservationRequest(3, 30_000, room.getId());
+        reservationGuestService.createReservation(guest.getId(), request);
+        roomAvailabilityIndex.clear();
+
+        // when
+        // then
+        assertAll(
+            () -> assertThatThrownBy(() -> reservationGuestService.createReservation(guest.getId(), request))
+                .isInstanceOf(AlreadyReservationRoomException.class)
+                .hasMessage("해당 숙소가 이미 예약된 기간입니다."),
+            () -> assertThat(reservationNightRepository.count()).isEqualTo(3L)
+        );
+    }
+
+    @DisplayName("취소된 예약의 숙박일은 다시 예약할 수 있다.")
+    @Test
+    void create_reservation_after_cancel() {
+        // given
+        CreateReservationRequest request = createReservationRequest(3, 30_000, room.getId());
+        Long reservationId = reservationGuestService.createReservation(guest.getId(), request)
+            .getReservation()
+            .getId();
+        reservationGuestService.cancel(guest.getId(), reservationId);
+
+        // when
+        ReservationResponseForGuest response = reservationGuestService.createReservation(guest.getId(), request);
+
+        // then
+        assertAll(
+            () -> assertThat(response.getReservation().getReservationStatus()).isEqualTo(PENDING),
+            () -> assertThat(reservationNightRepository.count()).isEqualTo(3L)
+        );
+    }
+
     @DisplayName("숙소가 존재하지 않다면 예외를 발생한다.")
     @Test
     void create_reservation_not_found_room() {
@@ -163,6 +238,57 @@ class ReservationGuestServiceTest extends ApiTest {
         );
     }
 
+    @DisplayName("수정한 예약이 최대 숙박일 수를 넘으면 예외를 발생한다.")
+    @Test
+    void modify_too_many_nights() {
+        // given
+        CreateReservationRequest request = createReservationRequest(3, 30_000, room.getId());
+        Long reservationId = reservationGuestService.createReservation(guest.getId(), request).getReservation().getId();
+        ReservationUpdateRequest updateRequest = new ReservationUpdateRequest(now().plusDays(31L), 3, 280_000);
+
+        // when
+        // then
+        assertAll(
+            () -> assertThatThrownBy(() -> reservationGuestService.modify(guest.getId(), reservationId, updateRequest))
+                .isInstanceOf(ReservationInvalidValueException.class)
+                .hasMessage("한 번에 30박까지만 예약할 수 있습니다."),
+            () -> assertThat(reservationNightRepository.count()).isEqualTo(3L)
+        );
+    }
+
+    @DisplayName("동시에 같은 예약을 수정해 버전이 충돌하면 새 트랜잭션에서 최신 예약으로 다시 검증한다.")
+    @Test
+    void modify_concurrent_version_conflict() {
+        // given
+        CreateReservationRequest request = createReservationRequest(3, 30_000, room.getId());
+        Long reservationId = reservationGuestService.createReservation(guest.getId(), request).getReservation().getId();
+        ReservationUpdateRequest firstRequest = new ReservationUpdateRequest(now().plusDays(5L), 5, 20_000);
+        ReservationUpdateRequest secondRequest = new ReservationUpdateRequest(now().plusDays(4L), 4, 10_000);
+        Long version = reservationRepository.findById(reservationId).get().getVersion();
+        AtomicInteger priceChecks = new AtomicInteger();
+        willAnswer(invocation -> {
+            if (priceChecks.incrementAndGet() == 1) {
+                CompletableFuture.runAsync(
+                    () -> reservationGuestService.modify(guest.getId(), reservationId, secondRequest)).join();
+            }
+            return invocation.callRealMethod();
+        }).given(roomPriceService).calculateTotalPrice(any(), any(), any());
+
+        // when
+        // then
+        assertThatThrownBy(() -> reservationGuestService.modify(guest.getId(), reservationId, firstRequest))
+            .isInstanceOf(ReservationInvalidValueException.class)
+            .hasMessage("숙소 가격이 일치하지 않습니다.");
+        Reservation reservation = reservationRepository.findById(reservationId).get();
+        assertAll(
+            () -> assertThat(priceChecks).hasValue(3),
+            () -> assertThat(reservation.getVersion()).isEqualTo(version + 1),
+            () -> assertThat(reservation.getTotalGuest()).isEqualTo(4),
+            () -> assertThat(reservation.getTotalPrice().getValue()).isEqualTo(40_000),
+            () -> assertThat(reservationNightRepository.count()).isEqualTo(4L)
+        );
+    }
+
     @DisplayName("예약 불가능한 날짜를 조회한다.")
     @Test
     void getImpossibleReservationDates() {
@@ -256,6 +382,19 @@ class ReservationGuestServiceTest extends ApiTest {
         );
     }
 
+    @DisplayName("존재하지 않는 유저가 예약 정보들을 조회하면 예외를 발생한다.")
+    @Test
+    void getReservations_not_found_guest() {
+        // given
+        SearchReservationsRequest request = new SearchReservationsRequest(10, PENDING, null);
+
+        // when
+        // then
+        assertThatThrownBy(() -> reservationGuestService.getReservations(100L, request))
+            .isInstanceOf(UserNotFoundException.class)
+            .hasMessage("존재하지 않는 유저입니다");
+    }
+
     private CreateReservationRequest createReservationRequest(int totalGuest, int totalPrice, Long roomId) {
         return CreateReservationRequest.builder()
             .checkIn(now())
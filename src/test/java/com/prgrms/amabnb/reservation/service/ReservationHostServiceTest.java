@@ -1,26 +1,40 @@
 package com.prgrms.amabnb.reservation.service;
 
 import static com.prgrms.amabnb.config.util.Fixture.*;
+import static com.prgrms.amabnb.reservation.dto.request.ReservationInboxSort.*;
 import static com.prgrms.amabnb.reservation.entity.ReservationStatus.*;
 import static java.time.LocalDate.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 
 import com.prgrms.amabnb.common.vo.Money;
+import com.prgrms.amabnb.common.outbox.OutboxDispatcher;
 import com.prgrms.amabnb.config.ApiTest;
+import com.prgrms.amabnb.reservation.dto.request.BulkReservationAction;
+import com.prgrms.amabnb.reservation.dto.request.BulkReservationRequest;
+import com.prgrms.amabnb.reservation.dto.request.ReservationInboxRequest;
 import com.prgrms.amabnb.reservation.dto.request.SearchReservationsRequest;
+import com.prgrms.amabnb.reservation.dto.response.BulkReservationOutcome;
+import com.prgrms.amabnb.reservation.dto.response.BulkReservationResponse;
+import com.prgrms.amabnb.reservation.dto.response.ReservationInboxResponse;
 import com.prgrms.amabnb.reservation.dto.response.ReservationInfoResponse;
 import com.prgrms.amabnb.reservation.dto.response.ReservationResponseForHost;
 import com.prgrms.amabnb.reservation.entity.Reservation;
 import com.prgrms.amabnb.reservation.entity.ReservationStatus;
 import com.prgrms.amabnb.reservation.entity.vo.ReservationDate;
+import com.prgrms.amabnb.reservation.event.ReservationAutoRejectedEvent;
+import com.prgrms.amabnb.reservation.exception.ReservationInvalidValueException;
 import com.prgrms.amabnb.reservation.exception.ReservationNotHavePermissionException;
 import com.prgrms.amabnb.reservation.exception.ReservationStatusException;
 import com.prgrms.amabnb.reservation.repository.ReservationRepository;
@@ -29,8 +43,12 @@ import com.prgrms.amabnb.room.repository.RoomRepository;
 import com.prgrms.amabnb.user.entity.User;
 import com.prgrms.amabnb.user.repository.UserRepository;
 
+@RecordApplicationEvents
 class ReservationHostServiceTest extends ApiTest {
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @Autowired
     private RoomRepository roomRepository;
 
@@ -43,6 +61,9 @@ class ReservationHostServiceTest extends ApiTest {
     @Autowired
     private ReservationHostService reservationHostService;
 
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
     private User guest;
     private User host;
     private Room room;
@@ -67,6 +88,32 @@ class ReservationHostServiceTest extends ApiTest {
         assertThat(response.getReservationStatus()).isEqualTo(APPROVED);
     }
 
+    @DisplayName("예약을 승인하면 겹치는 대기 중인 예약은 자동으로 거절된다.")
+    @Test
+    void approve_reject_overlapping_pendings() {
+        // given
+        User otherGuest = userRepository.save(createUser("otherGuest"));
+        Long overlappingId = reservationRepository.save(
+            createPendingReservation(otherGuest, now(), now().plusDays(2))).getId();
+        Long separateId = reservationRepository.save(
+            createPendingReservation(otherGuest, now().plusDays(3), now().plusDays(4))).getId();
+
+        // when
+        reservationHostService.approve(host.getId(), reservationId);
+        outboxDispatcher.dispatch(LocalDateTime.now());
+
+        // then
+        assertAll(
+            () -> assertThat(reservationRepository.findById(overlappingId).orElseThrow().getReservationStatus())
+                .isEqualTo(HOST_CANCELED),
+            () -> assertThat(reservationRepository.findById(separateId).orElseThrow().getReservationStatus())
+                .isEqualTo(PENDING),
+            () -> assertThat(applicationEvents.stream(ReservationAutoRejectedEvent.class))
+                .extracting(ReservationAutoRejectedEvent::reservationId, ReservationAutoRejectedEvent::guestId)
+                .containsExactly(tuple(overlappingId, otherGuest.getId()))
+        );
+    }
+
     @DisplayName("해당하는 호스트의 예약이 아닐 경우 승인할 수 없다.")
     @Test
     void approve_is_not_host() {
@@ -108,6 +155,43 @@ class ReservationHostServiceTest extends ApiTest {
             .hasMessage("해당 예약의 호스트가 아닙니다.");
     }
 
+    @DisplayName("호스트가 여러 예약을 한 번에 취소하고 예약별 처리 결과를 받는다.")
+    @Test
+    void changeStatuses() {
+        // given
+        User otherHost = userRepository.save(createUser("otherHost"));
+        Room otherRoom = roomRepository.save(createRoom(otherHost));
+        Long otherHostReservationId = reservationRepository.save(createReservation(otherRoom, guest)).getId();
+        Long approvedReservationId = reservationRepository.save(Reservation.builder()
+            .room(room)
+            .guest(guest)
+            .reservationStatus(APPROVED)
+            .totalPrice(new Money(20_000))
+            .totalGuest(1)
+            .reservationDate(new ReservationDate(now().plusDays(5), now().plusDays(6)))
+            .build()).getId();
+        BulkReservationRequest request = new BulkReservationRequest(
+            List.of(reservationId, otherHostReservationId, approvedReservationId, 999L), BulkReservationAction.CANCEL);
+
+        // when
+        BulkReservationResponse response = reservationHostService.changeStatuses(host.getId(), request);
+
+        // then
+        assertAll(
+            () -> assertThat(response.getResults()).extracting("reservationId", "outcome")
+                .containsExactly(
+                    tuple(reservationId, BulkReservationOutcome.APPLIED),
+                    tuple(otherHostReservationId, BulkReservationOutcome.FORBIDDEN),
+                    tuple(approvedReservationId, BulkReservationOutcome.INVALID_STATUS),
+                    tuple(999L, BulkReservationOutcome.NOT_FOUND)
+                ),
+            () -> assertThat(reservationRepository.findById(reservationId).orElseThrow().getReservationStatus())
+                .isEqualTo(HOST_CANCELED),
+            () -> assertThat(reservationRepository.findById(otherHostReservationId).orElseThrow()
+                .getReservationStatus()).isEqualTo(PENDING)
+        );
+    }
+
     @DisplayName("예약정보를 단건 조회한다.")
     @Test
     void getReservation() {
@@ -144,6 +228,62 @@ class ReservationHostServiceTest extends ApiTest {
         );
     }
 
+    @DisplayName("체크인 순서로 호스트의 예약함을 커서로 이어서 조회한다.")
+    @Test
+    void getInbox_check_in_order() {
+        // given
+        for (int day = 5; day > 0; day--) {
+            reservationRepository.save(createReservationByDay(day));
+        }
+        ReservationInboxRequest firstRequest = new ReservationInboxRequest(2, PENDING, CHECK_IN, null);
+
+        // when
+        ReservationInboxResponse first = reservationHostService.getInbox(host.getId(), firstRequest);
+        ReservationInboxResponse second = reservationHostService.getInbox(host.getId(),
+            new ReservationInboxRequest(2, PENDING, CHECK_IN, first.getNextCursor()));
+        ReservationInboxResponse last = reservationHostService.getInbox(host.getId(),
+            new ReservationInboxRequest(2, PENDING, CHECK_IN, second.getNextCursor()));
+
+        // then
+        assertAll(
+            () -> assertThat(first.getReservations()).extracting("reservation").extracting("checkIn")
+                .containsExactly(now(), now().plusDays(1L)),
+            () -> assertThat(second.getReservations()).extracting("reservation").extracting("checkIn")
+                .containsExactly(now().plusDays(2L), now().plusDays(3L)),
+            () -> assertThat(last.getReservations()).extracting("reservation").extracting("checkIn")
+                .containsExactly(now().plusDays(4L), now().plusDays(5L)),
+            () -> assertThat(last.getNextCursor()).isNull()
+        );
+    }
+
+    @DisplayName("다른 정렬 기준으로 만든 커서는 사용할 수 없다.")
+    @Test
+    void getInbox_invalid_cursor() {
+        // given
+        reservationRepository.save(createReservationByDay(1));
+        reservationRepository.save(createReservationByDay(2));
+        String cursor = reservationHostService.getInbox(host.getId(),
+            new ReservationInboxRequest(1, null, ID, null)).getNextCursor();
+
+        // when
+        // then
+        assertThatThrownBy(() -> reservationHostService.getInbox(host.getId(),
+            new ReservationInboxRequest(1, null, CHECK_IN, cursor)))
+            .isInstanceOf(ReservationInvalidValueException.class)
+            .hasMessage("잘못된 커서입니다.");
+    }
+
+    private Reservation createPendingReservation(User guest, LocalDate checkIn, LocalDate checkOut) {
+        return Reservation.builder()
+            .room(room)
+            .guest(guest)
+            .reservationStatus(PENDING)
+            .totalPrice(new Money(20_000))
+            .totalGuest(1)
+            .reservationDate(new ReservationDate(checkIn, checkOut))
+            .build();
+    }
+
     private Reservation createReservationByDay(int day) {
         return Reservation.builder()
             .room(room)
@@ -0,0 +1,116 @@
+package com.prgrms.amabnb.reservation.service;
+
+import static com.prgrms.amabnb.config.util.Fixture.*;
+import static com.prgrms.amabnb.reservation.entity.ReservationStatus.*;
+import static java.time.LocalDate.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.prgrms.amabnb.config.ApiTest;
+import com.prgrms.amabnb.reservation.dto.request.CreateReservationRequest;
+import com.prgrms.amabnb.reservation.dto.response.ReservationCountResponse;
+import com.prgrms.amabnb.reservation.dto.response.ReservationResponseForGuest;
+import com.prgrms.amabnb.reservation.repository.ReservationRepository;
+import com.prgrms.amabnb.room.entity.Room;
+import com.prgrms.amabnb.room.repository.RoomRepository;
+import com.prgrms.amabnb.user.entity.User;
+import com.prgrms.amabnb.user.repository.UserRepository;
+
+class ReservationStatusCountServiceTest extends ApiTest {
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationGuestService reservationGuestService;
+
+    @Autowired
+    private ReservationHostService reservationHostService;
+
+    @Autowired
+    private ReservationStatusCountService reservationStatusCountService;
+
+    private User guest;
+    private User host;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        guest = userRepository.save(createUser("guest"));
+        host = userRepository.save(createUser("host"));
+        room = roomRepository.save(createRoom(host));
+    }
+
+    @DisplayName("예약 생성과 상태 변경에 따라 게스트와 호스트의 상태별 예약 수가 갱신된다.")
+    @Test
+    void getCounts() {
+        // given
+        ReservationResponseForGuest approved = reservationGuestService.createReservation(
+            guest.getId(), createReservationRequest(0));
+        ReservationResponseForGuest canceled = reservationGuestService.createReservation(
+            guest.getId(), createReservationRequest(5));
+        reservationGuestService.createReservation(guest.getId(), createReservationRequest(10));
+        reservationHostService.approve(host.getId(), approved.getReservation().getId());
+        reservationGuestService.cancel(guest.getId(), canceled.getReservation().getId());
+
+        // when
+        ReservationCountResponse guestCounts = reservationStatusCountService.getCounts(guest.getId());
+        ReservationCountResponse hostCounts = reservationStatusCountService.getCounts(host.getId());
+
+        // then
+        assertAll(
+            () -> assertThat(guestCounts.getAsGuest())
+                .containsEntry(PENDING, 1L)
+                .containsEntry(APPROVED, 1L)
+                .containsEntry(GUEST_CANCELED, 1L)
+                .containsEntry(COMPLETED, 0L),
+            () -> assertThat(guestCounts.getAsHost().values()).containsOnly(0L),
+            () -> assertThat(hostCounts.getAsHost())
+                .containsEntry(PENDING, 1L)
+                .containsEntry(APPROVED, 1L)
+                .containsEntry(GUEST_CANCELED, 1L),
+            () -> assertThat(hostCounts.getAsGuest().values()).containsOnly(0L)
+        );
+    }
+
+    @DisplayName("집계 값이 실제 예약과 어긋나면 재조정 작업이 바로잡는다.")
+    @Test
+    void reconcileAll() {
+        // given
+        reservationGuestService.createReservation(guest.getId(), createReservationRequest(0));
+        reservationRepository.save(createReservation(room, guest));
+
+        // when
+        reservationStatusCountService.reconcileAll();
+
+        // then
+        assertAll(
+            () -> assertThat(reservationStatusCountService.getCounts(guest.getId()).getAsGuest())
+                .containsEntry(PENDING, 2L),
+            () -> assertThat(reservationStatusCountService.getCounts(host.getId()).getAsHost())
+                .containsEntry(PENDING, 2L)
+        );
+    }
+
+    private CreateReservationRequest createReservationRequest(long checkInAfter) {
+        return CreateReservationRequest.builder()
+            .checkIn(now().plusDays(checkInAfter))
+            .checkOut(now().plusDays(checkInAfter + 3))
+            .totalGuest(3)
+            .totalPrice(30_000)
+            .roomId(room.getId())
+            .build();
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.prgrms.amabnb.reservation.service;
+
+import static java.time.LocalDate.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoomAvailabilityIndexTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    private RoomAvailabilityIndex roomAvailabilityIndex;
+
+    @BeforeEach
+    void setUp() {
+        roomAvailabilityIndex = new RoomAvailabilityIndex();
+        roomAvailabilityIndex.reserve(ROOM_ID, 1L, now().plusDays(2L), now().plusDays(6L));
+    }
+
+    @DisplayName("예약된 기간과 겹치는 날짜가 있다면 예약된 숙소이다.")
+    @Test
+    void isReserved() {
+        assertAll(
+            () -> assertThat(isReserved(null, 0L, 3L)).isTrue(),
+            () -> assertThat(isReserved(null, 3L, 4L)).isTrue(),
+            () -> assertThat(isReserved(null, 5L, 9L)).isTrue(),
+            () -> assertThat(isReserved(null, 0L, 2L)).isFalse(),
+            () -> assertThat(isReserved(null, 6L, 9L)).isFalse()
+        );
+    }
+
+    @DisplayName("자기 자신의 예약 기간은 겹치는 기간으로 보지 않는다.")
+    @Test
+    void isReserved_excluded_reservation() {
+        assertAll(
+            () -> assertThat(isReserved(1L, 2L, 8L)).isFalse(),
+            () -> assertThat(isReserved(2L, 2L, 8L)).isTrue()
+        );
+    }
+
+    @DisplayName("예약을 해제하면 해당 기간을 다시 예약할 수 있다.")
+    @Test
+    void release() {
+        // given
+        roomAvailabilityIndex.reserve(ROOM_ID, 2L, now().plusDays(6L), now().plusDays(8L));
+
+        // when
+        roomAvailabilityIndex.release(ROOM_ID, 1L);
+
+        // then
+        assertAll(
+            () -> assertThat(isReserved(null, 2L, 6L)).isFalse(),
+            () -> assertThat(isReserved(null, 6L, 7L)).isTrue()
+        );
+    }
+
+    @DisplayName("같은 예약을 다시 등록하면 기존 기간을 새 기간으로 교체한다.")
+    @Test
+    void reserve_replace() {
+        // when
+        roomAvailabilityIndex.reserve(ROOM_ID, 1L, now().plusDays(4L), now().plusDays(10L));
+
+        // then
+        assertAll(
+            () -> assertThat(isReserved(null, 2L, 4L)).isFalse(),
+            () -> assertThat(isReserved(null, 9L, 10L)).isTrue()
+        );
+    }
+
+    @DisplayName("체크아웃이 지난 숙박은 정리하고 남은 숙박은 그대로 예약된 상태이다.")
+    @Test
+    void prune() {
+        // given
+        roomAvailabilityIndex.reserve(ROOM_ID, 2L, now().plusDays(6L), now().plusDays(9L));
+        roomAvailabilityIndex.reserve(2L, 3L, now().plusDays(1L), now().plusDays(3L));
+
+        // when
+        int pruned = roomAvailabilityIndex.prune(now().plusDays(6L));
+
+        // then
+        assertAll(
+            () -> assertThat(pruned).isEqualTo(2),
+            () -> assertThat(roomAvailabilityIndex.size()).isOne(),
+            () -> assertThat(isReserved(null, 2L, 6L)).isFalse(),
+            () -> assertThat(isReserved(null, 7L, 8L)).isTrue(),
+            () -> assertThat(isReserved(null, 9L, 12L)).isFalse(),
+            () -> assertThat(isReserved(2L, 6L, 9L)).isFalse(),
+            () -> assertThat(roomAvailabilityIndex.isReserved(2L, null, now().plusDays(1L), now().plusDays(3L)))
+                .isFalse()
+        );
+    }
+
+    private boolean isReserved(Long excludedReservationId, long checkInAfter, long checkOutAfter) {
+        return roomAvailabilityIndex.isReserved(
+            ROOM_ID,
+            excludedReservationId,
+            now().plusDays(checkInAfter),
+            now().plusDays(checkOutAfter)
+        );
+    }
+
+}
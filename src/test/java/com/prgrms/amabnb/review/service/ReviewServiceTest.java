@@ -32,6 +32,8 @@ import com.prgrms.amabnb.room.entity.RoomScope;
 import com.prgrms.amabnb.room.entity.RoomType;
 import com.prgrms.amabnb.room.entity.vo.RoomAddress;
 import com.prgrms.amabnb.room.entity.vo.RoomOption;
+import com.prgrms.amabnb.room.repository.RoomRepository;
+import com.prgrms.amabnb.room.service.RoomSearchIndexService;
 import com.prgrms.amabnb.user.entity.User;
 import com.prgrms.amabnb.user.entity.UserRole;
 
@@ -44,6 +46,10 @@ class ReviewServiceTest {
     private ReviewRepository reviewRepository;
     @Mock
     private ReservationGuestService reservationGuestService;
+    @Mock
+    private RoomRepository roomRepository;
+    @Mock
+    private RoomSearchIndexService roomSearchIndexService;
 
     static class Fixture {
         public static User createUser(String name) {
@@ -116,6 +122,7 @@ class ReviewServiceTest {
             then(reservationGuestService).should(times(1)).findById(anyLong());
             then(reviewRepository).should(times(1)).existsByReservationId(anyLong());
             then(reviewRepository).should(times(1)).save(any(Review.class));
+            then(roomRepository).should(times(1)).applyReviewScore(1L, 1, 2L);
             assertThat(result).isEqualTo(givenReview.getId());
         }
     }
@@ -133,7 +140,7 @@ class ReviewServiceTest {
             givenReservation.changeStatus(COMPLETED);
             var givenReview = new Review(1L, "content", 2, givenReservation);
             var reservationDto = new ReservationReviewResponse(givenReservation.getId(),
-                givenReservation.getReservationStatus(), givenGuest.getId());
+                givenReservation.getReservationStatus(), givenGuest.getId(), givenReservation.getRoom().getId());
 
             when(reviewRepository.findById(anyLong())).thenReturn(Optional.of(givenReview));
             when(reservationGuestService.findById(anyLong())).thenReturn(reservationDto);
@@ -142,6 +149,7 @@ class ReviewServiceTest {
 
             then(reviewRepository).should(times(1)).findById(givenReview.getId());
             then(reviewRepository).should(times(1)).deleteById(givenReview.getId());
+            then(roomRepository).should(times(1)).applyReviewScore(1L, -1, -2L);
         }
     }
 }
@@ -1,7 +1,9 @@
 package com.prgrms.amabnb.room.api;
 
+import static org.hamcrest.Matchers.*;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -18,22 +20,15 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
-import com.prgrms.amabnb.common.vo.Email;
-import com.prgrms.amabnb.common.vo.PhoneNumber;
 import com.prgrms.amabnb.config.ApiTest;
 import com.prgrms.amabnb.room.dto.request.CreateRoomRequest;
 import com.prgrms.amabnb.room.dto.request.ModifyRoomRequest;
-import com.prgrms.amabnb.room.entity.Room;
 import com.prgrms.amabnb.room.entity.RoomScope;
 import com.prgrms.amabnb.room.entity.RoomType;
-import com.prgrms.amabnb.room.repository.RoomRepository;
 import com.prgrms.amabnb.room.service.GuestRoomService;
 import com.prgrms.amabnb.room.service.HostRoomService;
 import com.prgrms.amabnb.security.oauth.OAuthService;
 import com.prgrms.amabnb.security.oauth.UserProfile;
-import com.prgrms.amabnb.user.entity.User;
-import com.prgrms.amabnb.user.entity.UserRole;
-import com.prgrms.amabnb.user.repository.UserRepository;
 
 class RoomApiTest extends ApiTest {
 
@@ -43,12 +38,6 @@ class RoomApiTest extends ApiTest {
     @Autowired
     GuestRoomService guestRoomService;
 
-    @Autowired
-    RoomRepository roomRepository;
-
-    @Autowired
-    UserRepository userRepository;
-
     @Autowired
     OAuthService oAuthService;
 
@@ -98,13 +87,12 @@ class RoomApiTest extends ApiTest {
 
     @Test
     @WithMockUser
-    @DisplayName("필터 검색을 할 수 있다.")
+    @DisplayName("필터 검색 결과를 정렬해 커서로 이어서 가져오고 필터 집계를 함께 받는다.")
     void filterSearchTest() throws Exception {
         //given
-        CreateRoomRequest createRoomRequest = createCreateRoomRequest();
-        User user = userRepository.save(createUser());
-        Room room = createRoomRequest.toRoom(user);
-        roomRepository.save(room);
+        String accessToken = 로그인_요청();
+        Long firstRoomId = saveRoom(accessToken);
+        Long secondRoomId = saveRoom(accessToken);
 
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("minBeds", "1");
@@ -114,25 +102,120 @@ class RoomApiTest extends ApiTest {
         params.add("maxPrice", "10000000");
         params.add("roomTypes", "HOUSE");
         params.add("roomScopes", "PRIVATE");
+        params.add("size", "1");
+        params.add("sort", "PRICE_ASC");
+        params.add("facets", "true");
+
+        //when
+        String firstPage = mockMvc.perform(get("/rooms")
+                .contentType(MediaType.APPLICATION_JSON)
+                .params(params))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.rooms.length()").value(1))
+            .andExpect(jsonPath("$.rooms[0].id").value(firstRoomId))
+            .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+            .andExpect(jsonPath("$.facets.total").value(2))
+            .andExpect(jsonPath("$.facets.roomTypes.HOUSE").value(2))
+            .andDo(print())
+            .andDo(document("room-search",
+                requestParameters(
+                    parameterWithName("minBeds").description("최소 침대 수"),
+                    parameterWithName("minBedrooms").description("최소 침실 수"),
+                    parameterWithName("minBathrooms").description("최소 욕실 수"),
+                    parameterWithName("minPrice").description("최소 가격"),
+                    parameterWithName("maxPrice").description("최대 가격"),
+                    parameterWithName("roomTypes").description("숙소 유형"),
+                    parameterWithName("roomScopes").description("숙소 공간 범위"),
+                    parameterWithName("size").description("페이지 크기 (1~50, 기본 10)"),
+                    parameterWithName("sort").description(
+                        "정렬 (NEWEST, PRICE_ASC, PRICE_DESC, REVIEW_SCORE, RELEVANCE), 검색어가 있으면 기본 RELEVANCE"),
+                    parameterWithName("facets").description("필터 집계를 함께 받을지 여부")
+                ),
+                responseFields(
+                    fieldWithPath("rooms[].id").type(JsonFieldType.NUMBER).description("숙소 아이디"),
+                    fieldWithPath("rooms[].name").type(JsonFieldType.STRING).description("숙소 이름"),
+                    fieldWithPath("rooms[].price").type(JsonFieldType.NUMBER).description("가격"),
+                    fieldWithPath("rooms[].reviewScore").type(JsonFieldType.NUMBER).description("리뷰 평점"),
+                    fieldWithPath("rooms[].relevance").type(JsonFieldType.NUMBER).description("검색어 관련도"),
+                    fieldWithPath("rooms[].imagePaths").type(JsonFieldType.ARRAY).description("이미지 경로"),
+                    fieldWithPath("nextCursor").type(JsonFieldType.STRING).description("다음 페이지 커서, 마지막이면 null"),
+                    fieldWithPath("facets.total").type(JsonFieldType.NUMBER).description("조건에 맞는 전체 숙소 수"),
+                    subsectionWithPath("facets.roomTypes").description("숙소 유형별 숙소 수"),
+                    subsectionWithPath("facets.roomScopes").description("공간 범위별 숙소 수"),
+                    subsectionWithPath("facets.beds").description("침대 수가 atLeast 이상인 숙소 수"),
+                    subsectionWithPath("facets.bathrooms").description("욕실 수가 atLeast 이상인 숙소 수"),
+                    subsectionWithPath("facets.prices").description("가격 구간 [from, to) 별 숙소 수")
+                )))
+            .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        //then
+        params.set("facets", "false");
+        params.add("cursor", nextCursor);
+        mockMvc.perform(get("/rooms")
+                .contentType(MediaType.APPLICATION_JSON)
+                .params(params))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.rooms.length()").value(1))
+            .andExpect(jsonPath("$.rooms[0].id").value(secondRoomId))
+            .andExpect(jsonPath("$.nextCursor").isEmpty())
+            .andExpect(jsonPath("$.facets").doesNotExist())
+            .andDo(print())
+            .andDo(document("room-search-cursor",
+                requestParameters(
+                    parameterWithName("minBeds").description("최소 침대 수"),
+                    parameterWithName("minBedrooms").description("최소 침실 수"),
+                    parameterWithName("minBathrooms").description("최소 욕실 수"),
+                    parameterWithName("minPrice").description("최소 가격"),
+                    parameterWithName("maxPrice").description("최대 가격"),
+                    parameterWithName("roomTypes").description("숙소 유형"),
+                    parameterWithName("roomScopes").description("숙소 공간 범위"),
+                    parameterWithName("size").description("페이지 크기"),
+                    parameterWithName("sort").description("첫 페이지와 같은 정렬"),
+                    parameterWithName("facets").description("필터 집계를 함께 받을지 여부"),
+                    parameterWithName("cursor").description("이전 응답의 nextCursor")
+                )));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("검색어로 숙소를 찾으면 관련도 순으로 가져온다.")
+    void keywordSearchTest() throws Exception {
+        //given
+        String accessToken = 로그인_요청();
+        Long roomId = saveRoom(accessToken);
+
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("keyword", "방이름");
         params.add("size", "10");
-        params.add("page", "1");
 
         // when, then
         mockMvc.perform(get("/rooms")
                 .contentType(MediaType.APPLICATION_JSON)
                 .params(params))
             .andExpect(status().isOk())
-            .andDo(print());
-
+            .andExpect(jsonPath("$.rooms.length()").value(1))
+            .andExpect(jsonPath("$.rooms[0].id").value(roomId))
+            .andExpect(jsonPath("$.rooms[0].relevance").value(greaterThan(0.0)))
+            .andExpect(jsonPath("$.nextCursor").isEmpty())
+            .andDo(print())
+            .andDo(document("room-search-keyword",
+                requestParameters(
+                    parameterWithName("keyword").description("숙소 이름과 설명에서 찾을 검색어"),
+                    parameterWithName("size").description("페이지 크기")
+                )));
     }
 
     @Test
     @WithMockUser
-    @DisplayName("필터를 설정하지 않아도 숙소를 들고온다.")
+    @DisplayName("필터를 설정하지 않아도 숙소를 최신순으로 들고온다.")
     void noFilterSearchTest() throws Exception {
+        //given
+        String accessToken = 로그인_요청();
+        saveRoom(accessToken);
+        Long newestRoomId = saveRoom(accessToken);
 
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        params.add("page", "10");
         params.add("size", "10");
 
         // when, then
@@ -140,6 +223,10 @@ class RoomApiTest extends ApiTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .params(params))
             .andExpect(status().isOk())
+            .andExpect(jsonPath("$.rooms.length()").value(2))
+            .andExpect(jsonPath("$.rooms[0].id").value(newestRoomId))
+            .andExpect(jsonPath("$.nextCursor").isEmpty())
+            .andExpect(jsonPath("$.facets").doesNotExist())
             .andDo(print());
 
     }
@@ -287,16 +374,4 @@ class RoomApiTest extends ApiTest {
             .maxGuestNum(1111)
             .build();
     }
-
-    private User createUser() {
-        return User.builder()
-            .oauthId("testOauthId")
-            .provider("testProvider")
-            .userRole(UserRole.GUEST)
-            .name("testUser")
-            .email(new Email("asdsadsad@gmail.com"))
-            .phoneNumber(new PhoneNumber("010-2312-1231"))
-            .profileImgUrl("urlurlrurlrurlurlurl")
-            .build();
-    }
 }
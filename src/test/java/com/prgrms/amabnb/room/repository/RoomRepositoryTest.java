@@ -1,20 +1,26 @@
 package com.prgrms.amabnb.room.repository;
 
+import static com.prgrms.amabnb.room.dto.request.RoomSearchSort.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
 
 import com.prgrms.amabnb.common.vo.Email;
 import com.prgrms.amabnb.common.vo.Money;
 import com.prgrms.amabnb.common.vo.PhoneNumber;
 import com.prgrms.amabnb.config.RepositoryTest;
+import com.prgrms.amabnb.reservation.entity.ReservationNight;
+import com.prgrms.amabnb.reservation.repository.ReservationNightRepository;
+import com.prgrms.amabnb.room.dto.request.RoomSearchCursor;
 import com.prgrms.amabnb.room.dto.request.SearchRoomFilterCondition;
+import com.prgrms.amabnb.room.dto.response.RoomFacetResponse;
 import com.prgrms.amabnb.room.dto.response.RoomSearchResponse;
 import com.prgrms.amabnb.room.entity.Room;
 import com.prgrms.amabnb.room.entity.RoomImage;
@@ -34,6 +40,9 @@ class RoomRepositoryTest extends RepositoryTest {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    ReservationNightRepository reservationNightRepository;
+
     @Test
     @DisplayName("숙소정보를 db에 저장할 수 있다")
     void roomJpaSave() {
@@ -63,7 +72,7 @@ class RoomRepositoryTest extends RepositoryTest {
         room3.changePrice(new Money(50000));
         roomRepository.save(room3);
         //when
-        List<RoomSearchResponse> rooms = roomRepository.findRoomsByFilterCondition(filter, PageRequest.of(0, 10));
+        List<RoomSearchResponse> rooms = roomRepository.findRoomsByFilterCondition(filter, NEWEST, null, 10);
 
         //then
         assertThat(rooms.size()).isEqualTo(1);
@@ -82,13 +91,136 @@ class RoomRepositoryTest extends RepositoryTest {
         roomRepository.save(room2);
         roomRepository.save(room3);
         //when
-        List<RoomSearchResponse> rooms = roomRepository.findRoomsByFilterCondition(nullFilter, PageRequest.of(0, 10));
+        List<RoomSearchResponse> rooms = roomRepository.findRoomsByFilterCondition(nullFilter, NEWEST, null, 10);
 
         //then
         assertThat(rooms.size()).isEqualTo(3);
 
     }
 
+    @Test
+    @DisplayName("이미지 수와 관계없이 페이지 크기만큼 숙소를 가져온다.")
+    void findRoomsPageByRoom() {
+        //given
+        User host = userRepository.save(createUser());
+        roomRepository.save(createRoom(host));
+        Room room2 = roomRepository.save(createRoom(host));
+        Room room3 = roomRepository.save(createRoom(host));
+
+        //when
+        List<RoomSearchResponse> rooms = roomRepository.findRoomsByFilterCondition(createNullFilter(), NEWEST, null, 2);
+
+        //then
+        assertThat(rooms).extracting("id").containsExactly(room3.getId(), room2.getId());
+        assertThat(rooms).allSatisfy(room -> assertThat(room.getImagePaths()).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("가격 순으로 정렬한 숙소를 커서로 이어서 가져온다.")
+    void findRoomsByPriceCursor() {
+        //given
+        User host = userRepository.save(createUser());
+        Room expensive = createRoom(host);
+        expensive.changePrice(new Money(3000));
+        roomRepository.save(expensive);
+        Room cheap1 = roomRepository.save(createRoom(host));
+        Room cheap2 = roomRepository.save(createRoom(host));
+        List<RoomSearchResponse> firstPage = roomRepository.findRoomsByFilterCondition(createNullFilter(),
+            PRICE_ASC, null, 2);
+
+        //when
+        List<RoomSearchResponse> secondPage = roomRepository.findRoomsByFilterCondition(createNullFilter(),
+            PRICE_ASC, RoomSearchCursor.after(PRICE_ASC, firstPage.get(1)), 2);
+
+        //then
+        assertThat(firstPage).extracting("id").containsExactly(cheap1.getId(), cheap2.getId());
+        assertThat(secondPage).extracting("id").containsExactly(expensive.getId());
+    }
+
+    @Test
+    @DisplayName("리뷰 평점이 높은 순으로 숙소를 가져온다.")
+    void findRoomsByReviewScore() {
+        //given
+        User host = userRepository.save(createUser());
+        Room room1 = roomRepository.save(createRoom(host));
+        Room room2 = roomRepository.save(createRoom(host));
+        Room room3 = roomRepository.save(createRoom(host));
+        roomRepository.applyReviewScore(room1.getId(), 1, 5);
+        roomRepository.applyReviewScore(room1.getId(), 1, 3);
+        roomRepository.applyReviewScore(room2.getId(), 1, 5);
+
+        //when
+        List<RoomSearchResponse> rooms = roomRepository.findRoomsByFilterCondition(createNullFilter(),
+            REVIEW_SCORE, null, 10);
+
+        //then
+        assertThat(rooms).extracting("id").containsExactly(room2.getId(), room1.getId(), room3.getId());
+        assertThat(rooms).extracting("reviewScore").containsExactly(5.0, 4.0, 0.0);
+    }
+
+    @Test
+    @DisplayName("숙박 기간과 겹치는 예약이 있는 숙소는 검색되지 않는다.")
+    void findRoomsAvailableBetween() {
+        //given
+        User host = userRepository.save(createUser());
+        Room reservedRoom = roomRepository.save(createRoom(host));
+        Room availableRoom = roomRepository.save(createRoom(host));
+        LocalDate checkIn = LocalDate.now().plusDays(3L);
+        reservationNightRepository.save(new ReservationNight(reservedRoom.getId(), checkIn.plusDays(1L), 1L));
+        reservationNightRepository.save(new ReservationNight(availableRoom.getId(), checkIn.plusDays(2L), 2L));
+
+        SearchRoomFilterCondition filter = SearchRoomFilterCondition.builder()
+            .checkIn(checkIn)
+            .checkOut(checkIn.plusDays(2L))
+            .build();
+
+        //when
+        List<RoomSearchResponse> rooms = roomRepository.findRoomsByFilterCondition(filter, NEWEST, null, 10);
+
+        //then
+        assertThat(rooms).extracting("id").containsExactly(availableRoom.getId());
+    }
+
+    @Test
+    @DisplayName("주어진 숙소 중 숙박 기간에 예약이 없는 숙소만 골라낸다.")
+    void findAvailableRoomIds() {
+        //given
+        User host = userRepository.save(createUser());
+        Room reservedRoom = roomRepository.save(createRoom(host));
+        Room availableRoom = roomRepository.save(createRoom(host));
+        Room otherRoom = roomRepository.save(createRoom(host));
+        LocalDate checkIn = LocalDate.now().plusDays(3L);
+        reservationNightRepository.save(new ReservationNight(reservedRoom.getId(), checkIn, 1L));
+
+        //when
+        Set<Long> available = roomRepository.findAvailableRoomIds(
+            List.of(reservedRoom.getId(), availableRoom.getId()), checkIn, checkIn.plusDays(2L));
+
+        //then
+        assertThat(available).containsExactly(availableRoom.getId()).doesNotContain(otherRoom.getId());
+    }
+
+    @Test
+    @DisplayName("필터 조건에 맞는 숙소의 유형, 침대 수, 가격 분포를 한 번에 집계한다.")
+    void findFacetsByFilterCondition() {
+        //given
+        User host = userRepository.save(createUser());
+        roomRepository.save(createRoom(host));
+        roomRepository.save(createRoom(host));
+
+        //when
+        RoomFacetResponse facets = roomRepository.findFacetsByFilterCondition(createFullFilter());
+
+        //then
+        assertThat(facets.getTotal()).isEqualTo(2L);
+        assertThat(facets.getRoomTypes()).containsEntry(RoomType.APARTMENT, 2L).containsEntry(RoomType.HOUSE, 0L);
+        assertThat(facets.getRoomScopes()).containsEntry(RoomScope.PRIVATE, 2L);
+        assertThat(facets.getBeds()).extracting("atLeast", "count")
+            .startsWith(tuple(1, 2L), tuple(2, 0L));
+        assertThat(facets.getPrices()).extracting("from", "to", "count")
+            .containsExactly(tuple(0, 10_000, 2L));
+    }
+
     @Test
     @DisplayName("호스트가 등록한 숙소들을 가져온다.")
     void findRoomByHostTest() {
@@ -3,6 +3,7 @@ package com.prgrms.amabnb.room.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,11 +13,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 
 import com.prgrms.amabnb.common.vo.Money;
+import com.prgrms.amabnb.room.dto.request.RoomSearchPageRequest;
+import com.prgrms.amabnb.room.dto.request.RoomSearchSort;
 import com.prgrms.amabnb.room.dto.request.SearchRoomFilterCondition;
+import com.prgrms.amabnb.room.dto.response.RoomSearchPageResponse;
 import com.prgrms.amabnb.room.dto.response.RoomSearchResponse;
 import com.prgrms.amabnb.room.entity.Room;
 import com.prgrms.amabnb.room.entity.RoomImage;
@@ -24,6 +26,7 @@ import com.prgrms.amabnb.room.entity.RoomScope;
 import com.prgrms.amabnb.room.entity.RoomType;
 import com.prgrms.amabnb.room.entity.vo.RoomAddress;
 import com.prgrms.amabnb.room.entity.vo.RoomOption;
+import com.prgrms.amabnb.room.exception.RoomInvalidValueException;
 import com.prgrms.amabnb.room.exception.RoomNotFoundException;
 import com.prgrms.amabnb.room.repository.RoomRepository;
 
@@ -36,21 +39,61 @@ class GuestRoomServiceTest {
     @Mock
     RoomRepository roomRepository;
 
+    @Mock
+    RoomSearchIndexService roomSearchIndexService;
+
+    @Mock
+    RoomFacetCache roomFacetCache;
+
     @Test
     @DisplayName("필터 검색을 할 수 있다.")
     void searchByFilter() {
         // //given
         List<RoomSearchResponse> response = List.of(new RoomSearchResponse());
         SearchRoomFilterCondition searchRoomFilterCondition = createSearchRoomFilterCondition();
-        given(roomRepository.findRoomsByFilterCondition(any(SearchRoomFilterCondition.class), any(Pageable.class)))
+        given(roomRepository.findRoomsByFilterCondition(any(SearchRoomFilterCondition.class), any(RoomSearchSort.class),
+            any(), anyInt()))
             .willReturn(response);
 
         //when
-        guestRoomService.searchRoomsByFilterCondition(searchRoomFilterCondition, PageRequest.of(0, 10));
+        RoomSearchPageResponse result = guestRoomService.searchRoomsByFilterCondition(searchRoomFilterCondition,
+            new RoomSearchPageRequest(10, null, null, false));
 
         //then
         then(roomRepository).should(times(1))
-            .findRoomsByFilterCondition(any(SearchRoomFilterCondition.class), any(Pageable.class));
+            .findRoomsByFilterCondition(any(SearchRoomFilterCondition.class), eq(RoomSearchSort.NEWEST), isNull(),
+                eq(11));
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("체크아웃 날짜가 체크인 날짜보다 앞서면 검색할 수 없다.")
+    void searchByInvalidStayDates() {
+        //given
+        LocalDate checkIn = LocalDate.now().plusDays(3L);
+        SearchRoomFilterCondition filterCondition = SearchRoomFilterCondition.builder()
+            .checkIn(checkIn)
+            .checkOut(checkIn.minusDays(1L))
+            .build();
+
+        //when, then
+        assertThatThrownBy(() -> guestRoomService.searchRoomsByFilterCondition(filterCondition,
+            new RoomSearchPageRequest(10, null, null, false)))
+            .isInstanceOf(RoomInvalidValueException.class);
+        then(roomRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("검색어 없이 관련도 정렬을 할 수 없다.")
+    void searchByRelevanceWithoutKeyword() {
+        //given
+        SearchRoomFilterCondition filterCondition = SearchRoomFilterCondition.builder().build();
+
+        //when, then
+        assertThatThrownBy(() -> guestRoomService.searchRoomsByFilterCondition(filterCondition,
+            new RoomSearchPageRequest(10, RoomSearchSort.RELEVANCE, null, false)))
+            .isInstanceOf(RoomInvalidValueException.class);
+        then(roomRepository).shouldHaveNoInteractions();
     }
 
     @Test
@@ -100,7 +143,7 @@ class GuestRoomServiceTest {
 
     private SearchRoomFilterCondition createSearchRoomFilterCondition() {
         return new SearchRoomFilterCondition(
-            1, 1, 1, 1, 1000000, null, null
+            1, 1, 1, null, 1, 1000000, null, null, null, null, null
         );
     }
 
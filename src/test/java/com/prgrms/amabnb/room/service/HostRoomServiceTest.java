@@ -3,17 +3,19 @@ package com.prgrms.amabnb.room.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
-import com.prgrms.amabnb.common.exception.EntityNotFoundException;
 import com.prgrms.amabnb.common.vo.Email;
 import com.prgrms.amabnb.common.vo.Money;
 import com.prgrms.amabnb.common.vo.PhoneNumber;
@@ -44,13 +46,19 @@ class HostRoomServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    RoomPriceService roomPriceService;
+
+    @Mock
+    RoomSearchIndexService roomSearchIndexService;
+
     @Test
     @DisplayName("숙소를 생성할 수 있다.")
     void createRoomTest() {
         //given
         CreateRoomRequest createRoomRequest = createCreateRoomRequest();
         User user = createUser();
-        given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
+        given(userRepository.getReferenceById(anyLong())).willReturn(user);
         given(roomRepository.save(any())).willReturn(createRoom());
 
         //when
@@ -58,7 +66,8 @@ class HostRoomServiceTest {
 
         //then
         then(roomRepository).should(times(1)).save(any(Room.class));
-        then(userRepository).should(times(1)).findById(anyLong());
+        then(userRepository).should(times(1)).getReferenceById(anyLong());
+        then(userRepository).should(never()).findById(anyLong());
     }
 
     @Test
@@ -67,10 +76,24 @@ class HostRoomServiceTest {
         //given
         CreateRoomRequest createRoomRequest = createCreateRoomRequest();
         User user = createUser();
-        given(userRepository.findById(anyLong())).willThrow(EntityNotFoundException.class);
+        given(userRepository.getReferenceById(anyLong())).willReturn(user);
+        given(roomRepository.save(any())).willThrow(createViolation(Room.HOST_FOREIGN_KEY));
         //when,then
         assertThatThrownBy(() -> hostRoomService.createRoom(1L, createRoomRequest))
-            .isInstanceOf(EntityNotFoundException.class);
+            .isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("호스트 외래키가 아닌 제약조건 위반은 그대로 던진다.")
+    void createFailOtherConstraintTest() {
+        //given
+        CreateRoomRequest createRoomRequest = createCreateRoomRequest();
+        User user = createUser();
+        given(userRepository.getReferenceById(anyLong())).willReturn(user);
+        given(roomRepository.save(any())).willThrow(createViolation("uk_room_name"));
+        //when,then
+        assertThatThrownBy(() -> hostRoomService.createRoom(1L, createRoomRequest))
+            .isInstanceOf(DataIntegrityViolationException.class);
     }
 
     @Test
@@ -99,12 +122,11 @@ class HostRoomServiceTest {
     @DisplayName("호스트가 등록한 방정보들을 볼 수 있다.")
     void searchRoomsForHostTest() {
         //given
-        given(userRepository.existsById(anyLong())).willReturn(true);
         given(roomRepository.findRoomsByHostId(anyLong())).willReturn(List.of(createRoom()));
         //when
         hostRoomService.searchRoomsForHost(1L);
         //then
-        then(userRepository).should(times(1)).existsById(anyLong());
+        then(userRepository).should(never()).existsById(anyLong());
         then(roomRepository).should(times(1)).findRoomsByHostId(anyLong());
     }
 
@@ -112,6 +134,7 @@ class HostRoomServiceTest {
     @DisplayName("유저가 존재하지 않으면 방정보를 가져올 수 없다.")
     void name() {
         //given
+        given(roomRepository.findRoomsByHostId(anyLong())).willReturn(List.of());
         given(userRepository.existsById(anyLong())).willReturn(false);
         //when
         assertThatThrownBy(() -> hostRoomService.searchRoomsForHost(1L)).isInstanceOf(UserNotFoundException.class);
@@ -183,4 +206,8 @@ class HostRoomServiceTest {
         return new RoomImage(null, "aaa");
     }
 
+    private DataIntegrityViolationException createViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+            new ConstraintViolationException("constraint violation", new SQLException(), constraintName));
+    }
 }
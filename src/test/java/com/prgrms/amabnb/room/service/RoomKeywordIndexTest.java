@@ -0,0 +1,74 @@
+package com.prgrms.amabnb.room.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoomKeywordIndexTest {
+
+    private RoomKeywordIndex roomKeywordIndex;
+
+    @BeforeEach
+    void setUp() {
+        roomKeywordIndex = new RoomKeywordIndex();
+        roomKeywordIndex.index(1L, "해운대 오션뷰 아파트", "바다가 보이는 숙소입니다");
+        roomKeywordIndex.index(2L, "서울 한옥 스테이", "해운대와는 거리가 멉니다");
+        roomKeywordIndex.index(3L, "제주 감성 숙소", "조용한 마을에 있는 독채");
+    }
+
+    @Test
+    @DisplayName("한글 두 글자 단위로 토큰을 나눈다.")
+    void tokenize() {
+        //when, then
+        assertThat(RoomKeywordIndex.tokenize("해운대 Ocean-뷰"))
+            .containsExactly("해운", "운대", "oc", "ce", "ea", "an", "뷰");
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 토큰을 포함한 숙소만 찾고 이름에 포함된 숙소가 더 높은 점수를 받는다.")
+    void search() {
+        //when
+        Map<Long, Double> result = roomKeywordIndex.search("해운대");
+
+        //then
+        assertAll(
+            () -> assertThat(result).containsOnlyKeys(1L, 2L),
+            () -> assertThat(result.get(1L)).isGreaterThan(result.get(2L))
+        );
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어도 더 긴 단어 안에 포함된 숙소를 찾는다.")
+    void searchSingleCharacter() {
+        //when
+        Map<Long, Double> result = roomKeywordIndex.search("채");
+
+        //then
+        assertAll(
+            () -> assertThat(result).containsOnlyKeys(3L),
+            () -> assertThat(roomKeywordIndex.search("해운대 바")).containsOnlyKeys(1L)
+        );
+    }
+
+    @Test
+    @DisplayName("숙소 정보가 바뀌면 이전 토큰으로는 찾을 수 없다.")
+    void reindex() {
+        //given
+        roomKeywordIndex.index(1L, "부산 광안리 아파트", "광안대교가 보이는 숙소입니다");
+
+        //when
+        Map<Long, Double> result = roomKeywordIndex.search("해운대");
+
+        //then
+        assertAll(
+            () -> assertThat(result).containsOnlyKeys(2L),
+            () -> assertThat(roomKeywordIndex.search("광안리")).containsOnlyKeys(1L)
+        );
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.prgrms.amabnb.room.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prgrms.amabnb.room.exception.RoomNotFoundException;
+
+class RoomPriceCalendarTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 1);
+
+    @DisplayName("불러오는 도중 가격이 바뀌어 무효화되면 이전 가격표는 캐시에 남지 않는다")
+    @Test
+    void get_evictedWhileLoading() {
+        //given
+        RoomPriceCalendar calendar = new RoomPriceCalendar();
+        calendar.get(1L, () -> {
+            calendar.evict(1L);
+            return RoomPriceTable.of(10_000, List.of(), TODAY);
+        });
+
+        //when
+        RoomPriceTable table = calendar.get(1L, () -> RoomPriceTable.of(20_000, List.of(), TODAY));
+
+        //then
+        assertThat(table.totalPrice(TODAY, TODAY.plusDays(1))).isEqualTo(20_000L);
+    }
+
+    @DisplayName("가격표를 불러오지 못한 숙소는 캐시에 빈 자리를 남기지 않는다")
+    @Test
+    void get_loaderFailed() {
+        //given
+        RoomPriceCalendar calendar = new RoomPriceCalendar();
+
+        //when
+        assertThatThrownBy(() -> calendar.get(1L, () -> {
+            throw new RoomNotFoundException();
+        })).isInstanceOf(RoomNotFoundException.class);
+
+        //then
+        assertThat(calendar.size()).isZero();
+    }
+
+}
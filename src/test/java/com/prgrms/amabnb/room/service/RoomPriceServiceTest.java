@@ -0,0 +1,120 @@
+package com.prgrms.amabnb.room.service;
+
+import static com.prgrms.amabnb.config.util.Fixture.*;
+import static java.time.LocalDate.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.prgrms.amabnb.config.ApiTest;
+import com.prgrms.amabnb.reservation.dto.request.CreateReservationRequest;
+import com.prgrms.amabnb.reservation.exception.ReservationInvalidValueException;
+import com.prgrms.amabnb.reservation.service.ReservationGuestService;
+import com.prgrms.amabnb.room.dto.request.ChangeRoomPriceRequest;
+import com.prgrms.amabnb.room.dto.response.RoomQuoteResponse;
+import com.prgrms.amabnb.room.entity.Room;
+import com.prgrms.amabnb.room.exception.RoomNotFoundException;
+import com.prgrms.amabnb.room.repository.RoomRepository;
+import com.prgrms.amabnb.user.entity.User;
+import com.prgrms.amabnb.user.repository.UserRepository;
+
+class RoomPriceServiceTest extends ApiTest {
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoomPriceService roomPriceService;
+
+    @Autowired
+    private ReservationGuestService reservationGuestService;
+
+    private User host;
+    private User guest;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        host = userRepository.save(createUser("host"));
+        guest = userRepository.save(createUser("guest"));
+        room = roomRepository.save(createRoom(host));
+    }
+
+    @DisplayName("날짜별 가격을 설정하면 견적과 예약 금액 검증에 반영된다")
+    @Test
+    void changePrices() {
+        //given
+        RoomQuoteResponse before = roomPriceService.quote(room.getId(), now().plusDays(1), now().plusDays(4));
+        roomPriceService.changePrices(host.getId(), room.getId(), ChangeRoomPriceRequest.builder()
+            .startDate(now().plusDays(2))
+            .endDate(now().plusDays(3))
+            .price(25_000)
+            .build());
+
+        //when
+        RoomQuoteResponse after = roomPriceService.quote(room.getId(), now().plusDays(1), now().plusDays(4));
+
+        //then
+        assertAll(
+            () -> assertThat(before.getTotalPrice()).isEqualTo(30_000L),
+            () -> assertThat(after.getNights()).isEqualTo(3),
+            () -> assertThat(after.getTotalPrice()).isEqualTo(45_000L),
+            () -> assertThatThrownBy(() -> reservationGuestService.createReservation(guest.getId(),
+                createReservationRequest(30_000))).isInstanceOf(ReservationInvalidValueException.class),
+            () -> assertThat(reservationGuestService.createReservation(guest.getId(),
+                createReservationRequest(45_000))).isNotNull()
+        );
+    }
+
+    @DisplayName("가격을 초기화하면 기본 가격으로 돌아간다")
+    @Test
+    void resetPrices() {
+        //given
+        roomPriceService.changePrices(host.getId(), room.getId(), ChangeRoomPriceRequest.builder()
+            .startDate(now())
+            .endDate(now().plusDays(5))
+            .price(25_000)
+            .build());
+
+        //when
+        roomPriceService.resetPrices(host.getId(), room.getId(), now(), now().plusDays(5));
+
+        //then
+        assertThat(roomPriceService.quote(room.getId(), now(), now().plusDays(2)).getTotalPrice())
+            .isEqualTo(20_000L);
+    }
+
+    @DisplayName("호스트의 숙소가 아니면 가격을 설정할 수 없다")
+    @Test
+    void changePrices_not_host() {
+        //given
+        ChangeRoomPriceRequest request = ChangeRoomPriceRequest.builder()
+            .startDate(now())
+            .endDate(now().plusDays(1))
+            .price(25_000)
+            .build();
+
+        //when
+        //then
+        assertThatThrownBy(() -> roomPriceService.changePrices(guest.getId(), room.getId(), request))
+            .isInstanceOf(RoomNotFoundException.class);
+    }
+
+    private CreateReservationRequest createReservationRequest(int totalPrice) {
+        return CreateReservationRequest.builder()
+            .checkIn(now().plusDays(1))
+            .checkOut(now().plusDays(4))
+            .totalGuest(1)
+            .totalPrice(totalPrice)
+            .roomId(room.getId())
+            .build();
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.prgrms.amabnb.room.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prgrms.amabnb.common.vo.Money;
+import com.prgrms.amabnb.room.entity.RoomNightlyPrice;
+
+class RoomPriceTableTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 1);
+
+    @DisplayName("날짜별 가격이 없으면 기본 가격에 숙박일 수를 곱한다")
+    @Test
+    void totalPrice_base() {
+        //given
+        RoomPriceTable table = RoomPriceTable.of(10_000, List.of(), TODAY);
+
+        //when
+        long totalPrice = table.totalPrice(TODAY.plusDays(3), TODAY.plusDays(6));
+
+        //then
+        assertThat(totalPrice).isEqualTo(30_000L);
+    }
+
+    @DisplayName("날짜별 가격이 설정된 밤은 해당 가격으로 계산하고 나머지는 기본 가격으로 계산한다")
+    @Test
+    void totalPrice_overrides() {
+        //given
+        RoomPriceTable table = RoomPriceTable.of(10_000, List.of(
+            new RoomNightlyPrice(1L, TODAY.plusDays(4), new Money(30_000)),
+            new RoomNightlyPrice(1L, TODAY.plusDays(5), new Money(50_000))
+        ), TODAY);
+
+        //when
+        //then
+        assertAll(
+            () -> assertThat(table.totalPrice(TODAY, TODAY.plusDays(2))).isEqualTo(20_000L),
+            () -> assertThat(table.totalPrice(TODAY.plusDays(3), TODAY.plusDays(6))).isEqualTo(90_000L),
+            () -> assertThat(table.totalPrice(TODAY.plusDays(5), TODAY.plusDays(8))).isEqualTo(70_000L),
+            () -> assertThat(table.totalPrice(TODAY.minusDays(2), TODAY.plusDays(1))).isEqualTo(30_000L)
+        );
+    }
+
+}
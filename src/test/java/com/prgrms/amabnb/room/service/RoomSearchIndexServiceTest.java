@@ -0,0 +1,81 @@
+package com.prgrms.amabnb.room.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.prgrms.amabnb.room.dto.request.RoomSearchSort;
+import com.prgrms.amabnb.room.dto.request.SearchRoomFilterCondition;
+import com.prgrms.amabnb.room.dto.response.RoomFacetResponse;
+import com.prgrms.amabnb.room.dto.response.RoomIndexDto;
+import com.prgrms.amabnb.room.entity.RoomScope;
+import com.prgrms.amabnb.room.entity.RoomType;
+import com.prgrms.amabnb.room.repository.RoomRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RoomSearchIndexServiceTest {
+
+    private static final int ROOM_COUNT = 300;
+    private static final LocalDate CHECK_IN = LocalDate.now().plusDays(1);
+
+    @Mock
+    RoomRepository roomRepository;
+
+    RoomSearchIndexService roomSearchIndexService;
+
+    @BeforeEach
+    void setUp() {
+        roomSearchIndexService = new RoomSearchIndexService(roomRepository, new RoomSearchIndex(),
+            new RoomKeywordIndex(), new RoomFacetCache());
+        List<RoomIndexDto> rows = LongStream.rangeClosed(1, ROOM_COUNT)
+            .mapToObj(id -> new RoomIndexDto(id, "바다 전망 숙소", "설명", 10_000, 1, 1, 1, 2, RoomType.HOUSE,
+                RoomScope.PRIVATE, 0.0))
+            .toList();
+        given(roomRepository.findIndexRowsAfter(null, 10_000)).willReturn(rows);
+        roomSearchIndexService.loadIndex();
+    }
+
+    @Test
+    @DisplayName("검색어와 숙박 날짜로 찾으면 한 페이지를 채울 만큼만 예약 가능 여부를 확인하고, 확인한 결과는 필터 집계와 함께 쓴다.")
+    void search_checksAvailabilityInBatches() {
+        //given
+        SearchRoomFilterCondition filter = SearchRoomFilterCondition.builder()
+            .keyword("바다")
+            .checkIn(CHECK_IN)
+            .checkOut(CHECK_IN.plusDays(2))
+            .build();
+        given(roomRepository.findAvailableRoomIds(anyCollection(), any(), any()))
+            .willAnswer(invocation -> new HashSet<>(invocation.<Collection<Long>>getArgument(0)));
+        RoomSearchCandidates candidates = roomSearchIndexService.candidates(filter);
+
+        //when
+        roomSearchIndexService.search(filter, RoomSearchSort.NEWEST, null, 11, candidates);
+        RoomFacetResponse facets = roomSearchIndexService.facets(filter, candidates);
+
+        //then
+        ArgumentCaptor<List<Long>> pageIds = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Collection<Long>> checkedIds = ArgumentCaptor.forClass(Collection.class);
+        then(roomRepository).should().findRoomsByIdIn(pageIds.capture());
+        then(roomRepository).should(times(2)).findAvailableRoomIds(checkedIds.capture(), any(), any());
+        assertAll(
+            () -> assertThat(pageIds.getValue()).hasSize(11).startsWith(300L, 299L),
+            () -> assertThat(checkedIds.getAllValues()).extracting(Collection::size).containsExactly(100, 200),
+            () -> assertThat(facets.getTotal()).isEqualTo(ROOM_COUNT)
+        );
+    }
+
+}
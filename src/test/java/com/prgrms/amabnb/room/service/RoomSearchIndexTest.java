@@ -0,0 +1,163 @@
+package com.prgrms.amabnb.room.service;
+
+import static com.prgrms.amabnb.room.dto.request.RoomSearchSort.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.prgrms.amabnb.room.dto.request.RoomSearchCursor;
+import com.prgrms.amabnb.room.dto.request.SearchRoomFilterCondition;
+import com.prgrms.amabnb.room.dto.response.RoomFacetResponse;
+import com.prgrms.amabnb.room.dto.response.RoomIndexDto;
+import com.prgrms.amabnb.room.entity.RoomScope;
+import com.prgrms.amabnb.room.entity.RoomType;
+
+class RoomSearchIndexTest {
+
+    private RoomSearchIndex roomSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        roomSearchIndex = new RoomSearchIndex();
+        roomSearchIndex.upsert(row(1L, 30_000, 1, 1, RoomType.HOUSE, 4.0));
+        roomSearchIndex.upsert(row(2L, 10_000, 2, 1, RoomType.APARTMENT, 4.5));
+        roomSearchIndex.upsert(row(3L, 20_000, 3, 2, RoomType.APARTMENT, 3.0));
+        roomSearchIndex.upsert(row(4L, 10_000, 1, 3, RoomType.HOTEL, 5.0));
+    }
+
+    @Test
+    @DisplayName("모든 필터 조건을 만족하는 숙소만 찾는다.")
+    void search_filter() {
+        //given
+        SearchRoomFilterCondition filter = SearchRoomFilterCondition.builder()
+            .minBedrooms(2)
+            .maxPrice(20_000)
+            .roomTypes(List.of(RoomType.APARTMENT, RoomType.HOTEL))
+            .build();
+
+        //when
+        List<Long> roomIds = roomSearchIndex.search(filter, NEWEST, null, 10);
+
+        //then
+        assertThat(roomIds).containsExactly(4L, 3L);
+    }
+
+    @Test
+    @DisplayName("정렬 기준에 맞춰 커서 이후의 숙소를 찾는다.")
+    void search_sort_and_cursor() {
+        //given
+        SearchRoomFilterCondition filter = SearchRoomFilterCondition.builder().build();
+        List<Long> firstPage = roomSearchIndex.search(filter, PRICE_ASC, null, 2);
+
+        //when
+        List<Long> secondPage = roomSearchIndex.search(filter, PRICE_ASC,
+            new RoomSearchCursor(PRICE_ASC, 10_000, 0.0, 4L), 2);
+
+        //then
+        assertAll(
+            () -> assertThat(firstPage).containsExactly(2L, 4L),
+            () -> assertThat(secondPage).containsExactly(3L, 1L),
+            () -> assertThat(roomSearchIndex.search(filter, REVIEW_SCORE, null, 10)).containsExactly(4L, 2L, 1L, 3L)
+        );
+    }
+
+    @Test
+    @DisplayName("숙소 정보가 바뀌면 같은 자리의 값을 갱신한다.")
+    void upsert_existing_room() {
+        //given
+        SearchRoomFilterCondition filter = SearchRoomFilterCondition.builder().minBeds(3).build();
+
+        //when
+        roomSearchIndex.upsert(row(1L, 30_000, 3, 1, RoomType.HOUSE, 4.0));
+
+        //then
+        assertAll(
+            () -> assertThat(roomSearchIndex.size()).isEqualTo(4),
+            () -> assertThat(roomSearchIndex.search(filter, NEWEST, null, 10)).containsExactly(3L, 1L)
+        );
+    }
+
+    @Test
+    @DisplayName("필터와 집계에 쓰이는 값이 바뀔 때만 변경으로 알린다.")
+    void upsert_changed() {
+        //when
+        boolean reviewOnly = roomSearchIndex.upsert(row(1L, 30_000, 1, 1, RoomType.HOUSE, 4.8));
+        boolean priceChanged = roomSearchIndex.upsert(row(1L, 40_000, 1, 1, RoomType.HOUSE, 4.8));
+
+        //then
+        assertAll(
+            () -> assertThat(reviewOnly).isFalse(),
+            () -> assertThat(priceChanged).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("여러 워드에 걸친 숙소도 빠짐없이 찾는다.")
+    void search_many_rooms() {
+        //given
+        for (long id = 5; id <= 3_000; id++) {
+            roomSearchIndex.upsert(row(id, (int)(id % 7) * 1_000 + 1_000, 1, 1, RoomType.HOTEL, 0.0));
+        }
+        SearchRoomFilterCondition filter = SearchRoomFilterCondition.builder()
+            .maxPrice(1_000)
+            .roomTypes(List.of(RoomType.HOTEL))
+            .build();
+
+        //when
+        List<Long> roomIds = roomSearchIndex.search(filter, NEWEST, null, 1_000);
+
+        //then
+        assertThat(roomIds).hasSize(428).allMatch(id -> id % 7 == 0);
+    }
+
+    @Test
+    @DisplayName("검색어 후보 중 필터를 만족하는 숙소를 관련도 순으로 찾는다.")
+    void searchAmong_relevance() {
+        //given
+        Map<Long, Double> relevances = Map.of(1L, 0.5, 2L, 2.0, 3L, 1.0, 4L, 1.0);
+        SearchRoomFilterCondition filter = SearchRoomFilterCondition.builder().maxPrice(20_000).build();
+
+        //when
+        List<Long> firstPage = roomSearchIndex.searchAmong(relevances, filter, null, 2);
+        List<Long> nextPage = roomSearchIndex.searchAmong(relevances, filter,
+            new RoomSearchCursor(RELEVANCE, 0, 0.0, 1.0, 4L), 2);
+
+        //then
+        assertAll(
+            () -> assertThat(firstPage).containsExactly(2L, 4L),
+            () -> assertThat(nextPage).containsExactly(3L)
+        );
+    }
+
+    @Test
+    @DisplayName("필터 조건에 맞는 숙소로 유형별 개수와 가격 분포를 집계한다.")
+    void facets() {
+        //given
+        SearchRoomFilterCondition filter = SearchRoomFilterCondition.builder().maxPrice(20_000).build();
+
+        //when
+        RoomFacetResponse facets = roomSearchIndex.facets(filter, roomId -> roomId != 4L);
+
+        //then
+        assertAll(
+            () -> assertThat(facets.getTotal()).isEqualTo(2L),
+            () -> assertThat(facets.getRoomTypes()).containsEntry(RoomType.APARTMENT, 2L)
+                .containsEntry(RoomType.HOTEL, 0L),
+            () -> assertThat(facets.getBeds()).extracting("count").startsWith(2L, 2L, 1L),
+            () -> assertThat(facets.getPrices()).extracting("from", "count")
+                .containsExactly(tuple(10_000, 1L), tuple(20_000, 1L))
+        );
+    }
+
+    private RoomIndexDto row(Long id, int price, int beds, int bedrooms, RoomType roomType, double reviewScore) {
+        return new RoomIndexDto(id, "방 " + id, "방 설명", price, beds, bedrooms, 1, 2, roomType, RoomScope.PRIVATE,
+            reviewScore);
+    }
+
+}